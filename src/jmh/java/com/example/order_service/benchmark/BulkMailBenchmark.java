@@ -0,0 +1,105 @@
+package com.example.order_service.benchmark;
+
+import com.example.order_service.service.BulkMailSender;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 알림 발송 처리량: 메시지마다 새 SMTP 연결을 여는 예전 방식(JavaMailSender.send)과
+ * 연결 풀을 쓰는 BulkMailSender 비교. 로컬 GreenMail SMTP 서버로 보내므로 네트워크 지연과 STARTTLS/AUTH 비용이 없어
+ * 실제 사업자 SMTP보다 연결 재사용 효과가 작게 나온다. connections=1은 병렬화 없이 연결 재사용 효과만 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkMailBenchmark {
+
+    private static final int MESSAGES = 500;
+    private static final String[] DOMAINS = {"gmail.com", "naver.com", "daum.net", "example.com"};
+
+    @Param({"1", "4"})
+    public int connections;
+
+    private GreenMail greenMail;
+    private JavaMailSenderImpl mailSender;
+    private BulkMailSender bulkMailSender;
+    private List<BulkMailSender.OutgoingMessage> messages;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        greenMail = new GreenMail(new ServerSetup(3925, "127.0.0.1", ServerSetup.PROTOCOL_SMTP));
+        greenMail.start();
+
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(3925);
+
+        bulkMailSender = new BulkMailSender(mailSender, connections);
+        set(bulkMailSender, "fromEmail", "noreply@orderservice.com");
+        set(bulkMailSender, "chunkSize", 50);
+        set(bulkMailSender, "messagesPerConnection", 500);
+        set(bulkMailSender, "maxConcurrencyPerDomain", 2);
+
+        messages = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            messages.add(new BulkMailSender.OutgoingMessage(
+                    "user" + i + "@" + DOMAINS[i % DOMAINS.length], "주문 알림", "주문 " + i + "번이 배송을 시작했습니다."));
+        }
+    }
+
+    // GreenMail은 받은 메일을 메모리에 쌓으므로 반복마다 비움
+    @Setup(Level.Iteration)
+    public void purge() throws Exception {
+        greenMail.purgeEmailFromAllMailboxes();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        bulkMailSender.destroy();
+        greenMail.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public int connectionPerMessage() {
+        for (BulkMailSender.OutgoingMessage message : messages) {
+            SimpleMailMessage mail = new SimpleMailMessage();
+            mail.setFrom("noreply@orderservice.com");
+            mail.setTo(message.to());
+            mail.setSubject(message.subject());
+            mail.setText(message.body());
+            mailSender.send(mail);
+        }
+        return messages.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public int pooledBulk() {
+        return bulkMailSender.sendAll(messages).sent();
+    }
+
+    private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.order_service.benchmark;
+
+import com.example.order_service.dto.ProductDTO;
+import com.example.order_service.service.CatalogCache;
+import com.example.order_service.service.CatalogPayloadCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 추천 상품 응답의 요청당 할당량: 캐시된 응답 바이트를 그대로 쓰는 방식과 요청마다 Jackson(+gzip)으로 직렬화하는 방식 비교.
+ * 응답 스트림은 버리는 OutputStream으로 대신해 서블릿 컨테이너의 할당은 빼고 측정한다.
+ * 요청당 할당 바이트는 gc 프로파일러의 gc.alloc.rate.norm 값으로 본다 (build.gradle의 jmh 설정에서 켜 둠).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogPayloadBenchmark {
+
+    @Param({"8", "100"})
+    public int productCount;
+
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    private ObjectMapper objectMapper;
+    private CatalogPayloadCache payloadCache;
+    private List<ProductDTO> products;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        // 버전 조회만 쓰므로 Redis/DB 없이 만듦
+        CatalogCache catalogCache = new CatalogCache(null, objectMapper, null, new SimpleMeterRegistry());
+        payloadCache = new CatalogPayloadCache(objectMapper, catalogCache);
+
+        products = new ArrayList<>(productCount);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        for (int i = 1; i <= productCount; i++) {
+            products.add(ProductDTO.builder()
+                    .id((long) i)
+                    .name("상품 " + i)
+                    .description("상품 " + i + "의 설명입니다. 배송은 주문 후 2~3일 걸립니다.")
+                    .price(BigDecimal.valueOf(10_000L + i * 100L))
+                    .stockQuantity(100 + i)
+                    .imageUrl("https://cdn.example.com/products/" + i + ".jpg")
+                    .category("category-" + (i % 10))
+                    .status("ACTIVE")
+                    .sellerName("판매자 " + (i % 20))
+                    .createdAt(createdAt.plusMinutes(i))
+                    .build());
+        }
+        payloadCache.get("featured", () -> products);
+    }
+
+    @Benchmark
+    public CatalogPayloadCache.Payload cachedPayload() throws IOException {
+        CatalogPayloadCache.Payload payload = payloadCache.get("featured", () -> products);
+        sink.write(payload.gzip());
+        return payload;
+    }
+
+    // 비교 기준: 캐시된 DTO 목록을 요청마다 직렬화하고 압축
+    @Benchmark
+    public byte[] serializePerRequest() throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(products);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        }
+        byte[] gzip = buffer.toByteArray();
+        sink.write(gzip);
+        return gzip;
+    }
+}
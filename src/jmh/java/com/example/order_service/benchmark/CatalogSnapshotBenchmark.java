@@ -0,0 +1,307 @@
+package com.example.order_service.benchmark;
+
+import com.example.order_service.OrderServiceApplication;
+import com.example.order_service.dto.ProductDTO;
+import com.example.order_service.repository.ProductChangeRepository;
+import com.example.order_service.repository.ProductRepository;
+import com.example.order_service.service.CatalogSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 새 노드의 첫 응답까지 걸리는 시간(TTFR): 애플리케이션을 실제로 부팅하고 GET /api/public/products/{id} 첫 요청이
+ * 200으로 끝날 때까지를 카탈로그 스냅샷 파일이 있을 때(file)와 없을 때(none, 기존 캐시/DB 경로) 비교한다.
+ * JVM마다 한 번만 측정(SingleShotTime, 워밍업 없음)하므로 포크 수가 곧 표본 수이고, 부팅 시간(bootMillis)과
+ * 부팅 후 첫 요청 시간(firstResponseMillis)을 보조 지표로 나눠 기록한다.
+ * <p>
+ * MySQL(-Dbenchmark.mysql.host/port, -Dbenchmark.jdbc.username/password, 기본 localhost:3306 root),
+ * Redis(-Dbenchmark.redis.host/port, 기본 localhost:6379), Kafka(-Dbenchmark.kafka.bootstrap-servers)가 필요하다.
+ * 포크마다 전용 데이터베이스(order_service_ttfr_benchmark)를 지우고 상품/변경 기록 테이블만 JDBC로 채운 뒤 부팅하므로
+ * 나머지 테이블은 부팅 중 Hibernate가 만든다. 이 비용은 두 변형에 같으므로 차이는 첫 요청 경로에서 난다.
+ * 스냅샷 파일은 두 변형 모두 같은 방식으로 미리 써 두므로(none은 경로만 주지 않음) 미리 로드되는 클래스도 같다.
+ * Redis의 상품 캐시가 이전 포크의 값으로 데워지지 않도록 포크마다 임의의 상품을 조회한다.
+ * build.gradle의 jmh 설정(fork/반복 횟수)은 아래 어노테이션보다 우선하므로
+ * {@code ./gradlew jmhJar} 후 {@code java -jar build/libs/*-jmh.jar CatalogSnapshotBenchmark}로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class CatalogSnapshotBenchmark {
+
+    private static final String DATABASE = "order_service_ttfr_benchmark";
+    private static final String JDBC_OPTIONS = "?useSSL=false&serverTimezone=UTC&characterEncoding=UTF-8"
+            + "&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true";
+    private static final int SEED_BATCH_SIZE = 5000;
+
+    @Param("100000")
+    public int productCount;
+
+    @Param({"none", "file"})
+    public String snapshot;
+
+    private Path directory;
+    private Path snapshotFile;
+    private long productId;
+    private HttpClient httpClient;
+    private ConfigurableApplicationContext context;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Timing {
+        public long bootMillis;
+        public long firstResponseMillis;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        seedDatabase();
+
+        directory = Files.createTempDirectory("catalog-snapshot-benchmark-");
+        snapshotFile = directory.resolve("catalog.snapshot");
+        CatalogSnapshot writer = new CatalogSnapshot(productRepository(productCount), productChangeRepository(productCount),
+                Jackson2ObjectMapperBuilder.json().build(), new SimpleMeterRegistry(), snapshotFile.toString());
+        writer.load();
+        writer.write();
+
+        productId = 1 + ThreadLocalRandom.current().nextInt(productCount);
+        httpClient = HttpClient.newHttpClient();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (context != null) {
+            context.close();
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int firstResponse(Timing timing) throws Exception {
+        long start = System.nanoTime();
+        context = new SpringApplicationBuilder(OrderServiceApplication.class).run(applicationArgs());
+        long booted = System.nanoTime();
+
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        HttpResponse<byte[]> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/public/products/" + productId)).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        long responded = System.nanoTime();
+
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("첫 요청이 실패했습니다: status=" + response.statusCode());
+        }
+        // 스냅샷을 읽지 못해 기존 경로로 응답했다면 비교가 무의미하므로 실패로 처리
+        boolean served = context.getBean(CatalogSnapshot.class).find(productId) != null;
+        if (served != snapshot.equals("file")) {
+            throw new IllegalStateException("스냅샷 사용 여부가 변형(" + snapshot + ")과 다릅니다.");
+        }
+        timing.bootMillis = TimeUnit.NANOSECONDS.toMillis(booted - start);
+        timing.firstResponseMillis = TimeUnit.NANOSECONDS.toMillis(responded - booted);
+        return response.body().length;
+    }
+
+    private String[] applicationArgs() {
+        String jwtSecret = "catalog-snapshot-benchmark-secret-0123456789abcdefghijklmnopqrstuvwxyz";
+        return new String[]{
+                "--server.port=0",
+                "--spring.datasource.url=" + jdbcUrl(DATABASE),
+                "--spring.datasource.username=" + username(),
+                "--spring.datasource.password=" + password(),
+                "--spring.jpa.show-sql=false",
+                "--spring.data.redis.host=" + System.getProperty("benchmark.redis.host", "localhost"),
+                "--spring.data.redis.port=" + Integer.getInteger("benchmark.redis.port", 6379),
+                "--spring.kafka.bootstrap-servers=" + System.getProperty("benchmark.kafka.bootstrap-servers", "localhost:9092"),
+                "--app.catalog.snapshot.path=" + (snapshot.equals("file") ? snapshotFile.toString() : ""),
+                "--app.catalog.snapshot.write-enabled=false",
+                // 외부 연동 설정은 부팅에만 필요하므로 더미 값
+                "--app.auth.tokenSecret=" + jwtSecret,
+                "--app.auth.tokenExpirationMsec=3600000",
+                "--app.oauth2.authorizedRedirectUris=http://localhost",
+                "--spring.security.oauth2.client.registration.google.client-id=benchmark",
+                "--spring.security.oauth2.client.registration.google.client-secret=benchmark",
+                "--spring.security.oauth2.client.registration.kakao.client-id=benchmark",
+                "--spring.security.oauth2.client.registration.kakao.client-secret=benchmark",
+                "--spring.security.oauth2.client.registration.naver.client-id=benchmark",
+                "--spring.security.oauth2.client.registration.naver.client-secret=benchmark",
+                "--spring.mail.host=localhost",
+                "--spring.mail.port=2525",
+                "--spring.mail.username=benchmark",
+                "--spring.mail.password=benchmark",
+                "--app.mail.from=benchmark@example.com",
+                "--app.mail.verification.expiration-hours=24",
+                "--app.mail.verification.code-expiration-minutes=10"
+        };
+    }
+
+    // 포크마다 빈 데이터베이스에 판매자 한 명과 상품, 오래전에 확정된 변경 기록을 넣음 (부팅 시 backfill할 것이 없음)
+    private void seedDatabase() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl(""), username(), password());
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + DATABASE);
+            statement.execute("CREATE DATABASE " + DATABASE + " CHARACTER SET utf8mb4 COLLATE utf8mb4_0900_ai_ci");
+        }
+
+        try (Connection connection = DriverManager.getConnection(jdbcUrl(DATABASE), username(), password())) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE users (id BIGINT AUTO_INCREMENT PRIMARY KEY, email VARCHAR(255) UNIQUE, " +
+                        "username VARCHAR(255) UNIQUE, password VARCHAR(255), name VARCHAR(255) NOT NULL, " +
+                        "nickname VARCHAR(255) NOT NULL UNIQUE, profile_image VARCHAR(255), role VARCHAR(32) NOT NULL, " +
+                        "auth_provider VARCHAR(32) NOT NULL, provider_id VARCHAR(255), is_enabled BIT NOT NULL, " +
+                        "email_verified BIT NOT NULL, email_verified_at DATETIME(6), created_at DATETIME(6), " +
+                        "updated_at DATETIME(6), version BIGINT DEFAULT 0)");
+                statement.execute("CREATE TABLE products (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                        "name VARCHAR(255) NOT NULL, description VARCHAR(1000), price DECIMAL(10, 2) NOT NULL, " +
+                        "stock_quantity INT NOT NULL, image_url VARCHAR(255), category VARCHAR(255), " +
+                        "status VARCHAR(32) NOT NULL, seller_id BIGINT NOT NULL, seller_sku VARCHAR(64), " +
+                        "created_at DATETIME(6), updated_at DATETIME(6))");
+                statement.execute("CREATE TABLE product_changes (seq BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                        "product_id BIGINT NOT NULL UNIQUE, changed_at DATETIME(6) NOT NULL)");
+                statement.execute("INSERT INTO users (id, name, nickname, role, auth_provider, is_enabled, email_verified) " +
+                        "VALUES (1, '판매자', 'benchmark-seller', 'SELLER', 'LOCAL', TRUE, TRUE)");
+            }
+
+            connection.setAutoCommit(false);
+            try (PreparedStatement products = connection.prepareStatement(
+                    "INSERT INTO products (id, name, description, price, stock_quantity, image_url, category, status, " +
+                    "seller_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 'ACTIVE', 1, ?, ?)");
+                 PreparedStatement changes = connection.prepareStatement(
+                         "INSERT INTO product_changes (seq, product_id, changed_at) VALUES (?, ?, NOW(6) - INTERVAL 1 HOUR)")) {
+                for (ProductDTO product : products(productCount)) {
+                    Timestamp createdAt = Timestamp.valueOf(product.getCreatedAt());
+                    products.setLong(1, product.getId());
+                    products.setString(2, product.getName());
+                    products.setString(3, product.getDescription());
+                    products.setBigDecimal(4, product.getPrice());
+                    products.setInt(5, product.getStockQuantity());
+                    products.setString(6, product.getImageUrl());
+                    products.setString(7, product.getCategory());
+                    products.setTimestamp(8, createdAt);
+                    products.setTimestamp(9, createdAt);
+                    products.addBatch();
+                    changes.setLong(1, product.getId());
+                    changes.setLong(2, product.getId());
+                    changes.addBatch();
+                    if (product.getId() % SEED_BATCH_SIZE == 0) {
+                        products.executeBatch();
+                        changes.executeBatch();
+                    }
+                }
+                products.executeBatch();
+                changes.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    // DB에 넣은 행과 같은 상품 목록. 스냅샷 작성 시 DB 대신 이 목록을 페이지로 돌려줌
+    private static List<ProductDTO> products(int productCount) {
+        List<ProductDTO> products = new ArrayList<>(productCount);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        for (int i = 1; i <= productCount; i++) {
+            products.add(ProductDTO.builder()
+                    .id((long) i)
+                    .name("상품 " + i)
+                    .description("상품 " + i + "의 설명입니다. 배송은 주문 후 2~3일 걸립니다.")
+                    .price(BigDecimal.valueOf(10_000L + i * 100L, 0).setScale(2))
+                    .stockQuantity(100 + i % 50)
+                    .imageUrl("https://cdn.example.com/products/" + i + ".jpg")
+                    .category("category-" + (i % 10))
+                    .status("ACTIVE")
+                    .sellerName("판매자")
+                    .createdAt(createdAt.plusMinutes(i))
+                    .build());
+        }
+        return products;
+    }
+
+    private static ProductRepository productRepository(int productCount) {
+        List<ProductDTO> products = products(productCount);
+        return (ProductRepository) Proxy.newProxyInstance(ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findDtosByStatusAfter")) {
+                        // ID가 1부터 연속이므로 lastId가 곧 다음 페이지의 시작 위치
+                        int from = Math.min(products.size(), ((Long) args[1]).intValue());
+                        int to = Math.min(products.size(), from + ((Pageable) args[2]).getPageSize());
+                        return products.subList(from, to);
+                    }
+                    return objectMethod(proxy, method.getName(), args);
+                });
+    }
+
+    // DB에 넣은 변경 기록과 같이 마지막 순번이 productCount이고 그 이후 변경은 없음
+    private static ProductChangeRepository productChangeRepository(int productCount) {
+        return (ProductChangeRepository) Proxy.newProxyInstance(ProductChangeRepository.class.getClassLoader(),
+                new Class<?>[]{ProductChangeRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findMaxSettledSeq" -> (long) productCount;
+                    case "findChangesAfter" -> List.of();
+                    default -> objectMethod(proxy, method.getName(), args);
+                });
+    }
+
+    private static Object objectMethod(Object proxy, String name, Object[] args) {
+        return switch (name) {
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "benchmark repository";
+            default -> throw new UnsupportedOperationException(name);
+        };
+    }
+
+    private static String jdbcUrl(String database) {
+        return "jdbc:mysql://" + System.getProperty("benchmark.mysql.host", "localhost") + ":"
+                + Integer.getInteger("benchmark.mysql.port", 3306) + "/" + database + JDBC_OPTIONS;
+    }
+
+    private static String username() {
+        return System.getProperty("benchmark.jdbc.username", "root");
+    }
+
+    private static String password() {
+        return System.getProperty("benchmark.jdbc.password", "");
+    }
+}
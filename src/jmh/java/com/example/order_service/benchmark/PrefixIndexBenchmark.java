@@ -0,0 +1,121 @@
+package com.example.order_service.benchmark;
+
+import com.example.order_service.util.PrefixIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 조회 지연: PrefixIndex(이진 탐색 + 구간 최댓값 트리)와 전체 항목을 훑어 상위 k개를 고르는 단순 방식 비교.
+ * 한글 음절을 조합한 productCount개의 상품명(2~4단어)을 만들고, 1~3글자 접두사로 상위 10개를 조회한다.
+ * 1글자 접두사는 일치 구간이 넓어 트리 조회의 최악에 가깝다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PrefixIndexBenchmark {
+
+    private static final int LIMIT = 10;
+    private static final String[] SYLLABLES = {
+            "가", "나", "다", "라", "마", "바", "사", "아", "자", "차", "카", "타", "파", "하",
+            "맥", "북", "프", "로", "갤", "럭", "시", "에", "어", "폰", "노", "트", "패", "드"
+    };
+
+    @Param({"100000", "1000000"})
+    public int productCount;
+
+    @Param({"1", "3"})
+    public int prefixLength;
+
+    private PrefixIndex index;
+    private String[] names;
+    private long[] weights;
+    private String[] prefixes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        PrefixIndex.Builder builder = new PrefixIndex.Builder();
+        names = new String[productCount];
+        weights = new long[productCount];
+        for (int i = 0; i < productCount; i++) {
+            int words = 2 + random.nextInt(3);
+            StringBuilder name = new StringBuilder();
+            for (int w = 0; w < words; w++) {
+                if (w > 0) {
+                    name.append(' ');
+                }
+                int length = 1 + random.nextInt(3);
+                for (int c = 0; c < length; c++) {
+                    name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+                }
+            }
+            names[i] = name.toString();
+            // 판매량처럼 소수 상품에 가중치가 몰리도록 지수 분포에 가깝게 생성
+            weights[i] = 1 + (long) (-Math.log(1 - random.nextDouble()) * 100);
+            builder.add(names[i], "product", weights[i]);
+        }
+        index = builder.build();
+
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            String name = names[random.nextInt(productCount)];
+            prefixes[i] = name.substring(0, Math.min(prefixLength, name.length()));
+        }
+    }
+
+    @Benchmark
+    public List<PrefixIndex.Suggestion> prefixIndex() {
+        return index.lookup(randomPrefix(), LIMIT);
+    }
+
+    // 비교 기준: 모든 이름의 단어 시작을 검사하고 크기 k 힙으로 상위 k개를 고름
+    @Benchmark
+    public List<String> linearScan() {
+        String prefix = randomPrefix();
+        PriorityQueue<Integer> top = new PriorityQueue<>(Comparator.comparingLong((Integer i) -> weights[i]));
+        for (int i = 0; i < names.length; i++) {
+            if (matchesWordStart(names[i], prefix)) {
+                top.add(i);
+                if (top.size() > LIMIT) {
+                    top.poll();
+                }
+            }
+        }
+        List<String> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(names[top.poll()]);
+        }
+        return result;
+    }
+
+    private String randomPrefix() {
+        return prefixes[ThreadLocalRandom.current().nextInt(prefixes.length)];
+    }
+
+    private static boolean matchesWordStart(String name, String prefix) {
+        if (name.startsWith(prefix)) {
+            return true;
+        }
+        for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+            if (name.startsWith(prefix, i + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
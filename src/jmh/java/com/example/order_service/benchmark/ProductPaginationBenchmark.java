@@ -0,0 +1,127 @@
+package com.example.order_service.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개 상품 목록의 깊은 페이지 비용: page 기반 OFFSET 조회와 같은 위치를 커서(키셋)로 읽는 조회 비교.
+ * H2 인메모리 DB에 products 테이블과 (created_at, id) 인덱스를 만들고 productCount개를 넣어,
+ * 최신순 12개씩 page 1과 page 5000 위치를 읽는다. OFFSET은 앞 행을 모두 건너뛰므로 page에 비례해 느려지고,
+ * 키셋은 인덱스에서 바로 이어 읽으므로 위치와 무관해야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductPaginationBenchmark {
+
+    private static final int PAGE_SIZE = 12;
+
+    @Param("200000")
+    public int productCount;
+
+    @Param({"1", "5000"})
+    public int page;
+
+    private Connection connection;
+    private PreparedStatement offsetQuery;
+    private PreparedStatement keysetQuery;
+    private Timestamp cursorCreatedAt;
+    private long cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:pagination;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE products (id BIGINT PRIMARY KEY, name VARCHAR(255), price DECIMAL(10, 2), " +
+                    "status VARCHAR(20), created_at TIMESTAMP(6))");
+            statement.execute("CREATE INDEX idx_products_created_at_id ON products (created_at, id)");
+        }
+        connection.setAutoCommit(false);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO products VALUES (?, ?, ?, 'ACTIVE', ?)")) {
+            for (int i = 1; i <= productCount; i++) {
+                insert.setLong(1, i);
+                insert.setString(2, "상품 " + i);
+                insert.setBigDecimal(3, BigDecimal.valueOf(1000 + i % 50_000));
+                // 같은 시각의 행이 섞이도록 초 단위로 묶음
+                insert.setTimestamp(4, Timestamp.valueOf(base.plusSeconds(i / 3)));
+                insert.addBatch();
+                if (i % 10_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+
+        offsetQuery = connection.prepareStatement(
+                "SELECT id, name, price, created_at FROM products ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?");
+        keysetQuery = connection.prepareStatement(
+                "SELECT id, name, price, created_at FROM products " +
+                "WHERE created_at < ? OR (created_at = ? AND id < ?) ORDER BY created_at DESC, id DESC LIMIT ?");
+
+        // 커서는 직전 페이지의 마지막 행 (page는 0부터이므로 page 1이면 처음 12개 중 마지막 행)
+        try (PreparedStatement last = connection.prepareStatement(
+                "SELECT created_at, id FROM products ORDER BY created_at DESC, id DESC LIMIT 1 OFFSET ?")) {
+            last.setInt(1, page * PAGE_SIZE - 1);
+            try (ResultSet rs = last.executeQuery()) {
+                rs.next();
+                cursorCreatedAt = rs.getTimestamp(1);
+                cursorId = rs.getLong(2);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long offsetPage() throws SQLException {
+        offsetQuery.setInt(1, PAGE_SIZE);
+        offsetQuery.setInt(2, page * PAGE_SIZE);
+        return consume(offsetQuery);
+    }
+
+    @Benchmark
+    public long keysetPage() throws SQLException {
+        keysetQuery.setTimestamp(1, cursorCreatedAt);
+        keysetQuery.setTimestamp(2, cursorCreatedAt);
+        keysetQuery.setLong(3, cursorId);
+        keysetQuery.setInt(4, PAGE_SIZE);
+        return consume(keysetQuery);
+    }
+
+    private static long consume(PreparedStatement query) throws SQLException {
+        long sum = 0;
+        try (ResultSet rs = query.executeQuery()) {
+            while (rs.next()) {
+                sum += rs.getLong(1);
+            }
+        }
+        return sum;
+    }
+}
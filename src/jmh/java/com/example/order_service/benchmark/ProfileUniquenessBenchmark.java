@@ -0,0 +1,129 @@
+package com.example.order_service.benchmark;
+
+import com.example.order_service.entity.User;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로필 수정 시 닉네임 중복 확인: users 전체를 User 엔티티로 읽어 비교하는 방식과 유니크 인덱스 존재 확인 쿼리 비교.
+ * H2 인메모리 DB에 User 엔티티로 users 테이블(유니크 인덱스 포함)을 만들고 userCount명을 넣은 뒤,
+ * 두 방식 모두 Hibernate 세션으로 실행한다. 전체 조회는 요청마다 새 세션에서 모든 행을 엔티티로 만들고
+ * 영속성 컨텍스트에 올리므로 findAll()과 같은 비용(모든 컬럼 읽기, 엔티티 생성, 스냅샷 보관)을 치른다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(jvmArgsAppend = "-Xmx4g")
+public class ProfileUniquenessBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:profile;DB_CLOSE_DELAY=-1";
+
+    @Param("1000000")
+    public int userCount;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .setProperty("hibernate.connection.url", URL)
+                .setProperty("hibernate.hbm2ddl.auto", "create")
+                // Spring Boot와 같은 컬럼 이름(auth_provider 등)을 쓰도록 함
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .buildSessionFactory();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2026, 1, 1, 12, 0));
+        try (Connection connection = DriverManager.getConnection(URL)) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO users (id, email, username, password, name, nickname, profile_image, role, " +
+                    "auth_provider, provider_id, is_enabled, email_verified, email_verified_at, created_at, " +
+                    "updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, 'USER', 'LOCAL', NULL, TRUE, TRUE, ?, ?, ?, 0)")) {
+                for (int i = 1; i <= userCount; i++) {
+                    insert.setLong(1, i);
+                    insert.setString(2, "user" + i + "@example.com");
+                    insert.setString(3, "user" + i);
+                    insert.setString(4, "$2a$10$abcdefghijklmnopqrstuuJ0M2CZtLdEYBjIrE3QsvLc7o6ZrVa2m");
+                    insert.setString(5, "사용자 " + i);
+                    insert.setString(6, "nick" + i);
+                    insert.setString(7, "https://cdn.example.com/profiles/" + i + ".jpg");
+                    insert.setTimestamp(8, now);
+                    insert.setTimestamp(9, now);
+                    insert.setTimestamp(10, now);
+                    insert.addBatch();
+                    if (i % 10_000 == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        sessionFactory.close();
+        try (Connection connection = DriverManager.getConnection(URL);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+    }
+
+    // 비교 기준: userRepository.findAll().stream().anyMatch(...)
+    @Benchmark
+    public boolean findAllScan() {
+        String nickname = randomNickname();
+        long selfId = 1;
+        try (Session session = sessionFactory.openSession()) {
+            List<User> users = session.createSelectionQuery("FROM User", User.class).getResultList();
+            return users.stream().anyMatch(user -> user.getId() != selfId && Objects.equals(user.getNickname(), nickname));
+        }
+    }
+
+    // existsByNicknameAndIdNot과 같은 형태의 쿼리
+    @Benchmark
+    public boolean indexedExists() {
+        try (Session session = sessionFactory.openSession()) {
+            return !session.createSelectionQuery(
+                            "SELECT u.id FROM User u WHERE u.nickname = :nickname AND u.id <> :id", Long.class)
+                    .setParameter("nickname", randomNickname())
+                    .setParameter("id", 1L)
+                    .setMaxResults(1)
+                    .getResultList()
+                    .isEmpty();
+        }
+    }
+
+    // 절반은 사용 중인 닉네임, 절반은 빈 닉네임
+    private String randomNickname() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return random.nextBoolean() ? "nick" + (1 + random.nextInt(userCount)) : "free" + random.nextInt(userCount);
+    }
+}
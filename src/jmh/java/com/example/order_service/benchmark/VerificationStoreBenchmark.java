@@ -0,0 +1,152 @@
+package com.example.order_service.benchmark;
+
+import com.example.order_service.entity.EmailVerification;
+import com.example.order_service.repository.EmailVerificationRepository;
+import com.example.order_service.service.JpaVerificationStore;
+import com.example.order_service.service.RedisVerificationStore;
+import com.example.order_service.service.VerificationStore;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이메일 인증번호 저장/확인 지연 시간: Redis 구현(기본)과 JPA(email_verifications) 구현 비교.
+ * 두 구현 모두 실제 빈과 같은 방식(JPA는 Spring Data 저장소와 @Transactional 프록시)으로 만들어 같은 호출을 측정한다.
+ * Redis는 -Dbenchmark.redis.host/port(기본 localhost:6379)로 실행 중인 서버에 연결하고,
+ * DB는 -Dbenchmark.jdbc.url/username/password(기본 H2 인메모리)로 지정한다.
+ * H2 인메모리는 네트워크 왕복이 없어 JPA 쪽이 실제보다 빠르게 나오므로 운영과 비교하려면 MySQL 주소를 지정한다.
+ * 벤치마크 전용 이메일만 쓰며, 종료 시 JPA 행은 그 이메일만 지우고 Redis 키는 TTL로 만료되게 둔다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VerificationStoreBenchmark {
+
+    private static final int EMAILS = 10_000;
+    private static final String CODE = "123456";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Param({"redis", "jpa"})
+    public String store;
+
+    private AnnotationConfigApplicationContext jpaContext;
+    private LettuceConnectionFactory redisConnectionFactory;
+    private VerificationStore verificationStore;
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (store.equals("redis")) {
+            redisConnectionFactory = new LettuceConnectionFactory(
+                    System.getProperty("benchmark.redis.host", "localhost"),
+                    Integer.getInteger("benchmark.redis.port", 6379));
+            redisConnectionFactory.afterPropertiesSet();
+            redisConnectionFactory.start();
+            // 같은 이메일을 반복해서 확인하므로 시도 횟수 제한에 걸리지 않게 함
+            verificationStore = new RedisVerificationStore(new StringRedisTemplate(redisConnectionFactory), Integer.MAX_VALUE);
+        } else {
+            jpaContext = new AnnotationConfigApplicationContext(JpaConfig.class);
+            verificationStore = jpaContext.getBean(VerificationStore.class);
+        }
+
+        for (int i = 0; i < EMAILS; i++) {
+            verificationStore.saveCode(email(i), CODE, TTL);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (jpaContext != null) {
+            EmailVerificationRepository repository = jpaContext.getBean(EmailVerificationRepository.class);
+            for (int i = 0; i < EMAILS; i++) {
+                repository.deleteByEmail(email(i));
+            }
+            jpaContext.close();
+        }
+        if (redisConnectionFactory != null) {
+            redisConnectionFactory.destroy();
+        }
+    }
+
+    // 인증번호 발송 요청: 이전 코드 삭제 후 새 코드 저장
+    @Benchmark
+    public void saveCode() {
+        verificationStore.saveCode(email(next.getAndIncrement() % EMAILS), CODE, TTL);
+    }
+
+    // 인증번호 확인: 코드 비교 후 인증 완료 표시
+    @Benchmark
+    public boolean verify() {
+        return verificationStore.verify(email(next.getAndIncrement() % EMAILS), CODE);
+    }
+
+    private static String email(int i) {
+        return "verify-bench-" + i + "@example.com";
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaRepositories(basePackageClasses = EmailVerificationRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = EmailVerificationRepository.class))
+    static class JpaConfig {
+
+        @Bean
+        DataSource dataSource() {
+            return new DriverManagerDataSource(
+                    System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:verification;DB_CLOSE_DELAY=-1;MODE=MySQL"),
+                    System.getProperty("benchmark.jdbc.username", "sa"),
+                    System.getProperty("benchmark.jdbc.password", ""));
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setManagedTypes(PersistenceManagedTypes.of(EmailVerification.class.getName()));
+            factory.setJpaPropertyMap(Map.of(
+                    "hibernate.hbm2ddl.auto", "update",
+                    "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()));
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        JpaVerificationStore jpaVerificationStore(EmailVerificationRepository emailVerificationRepository) {
+            return new JpaVerificationStore(emailVerificationRepository);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.example.order_service.entity.Product;
 import com.example.order_service.entity.User;
 import com.example.order_service.repository.ProductRepository;
 import com.example.order_service.repository.UserRepository;
+import com.example.order_service.service.IdentifierAllocator;
+import com.example.order_service.service.IdentityIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 
 @Component
 @RequiredArgsConstructor
@@ -21,6 +24,8 @@ public class DataLoader implements CommandLineRunner {
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final PasswordEncoder passwordEncoder;
+    private final IdentifierAllocator identifierAllocator;
+    private final IdentityIndex identityIndex;
 
     @Override
     public void run(String... args) throws Exception {
@@ -37,13 +42,7 @@ public class DataLoader implements CommandLineRunner {
             // username이 null인 경우 email에서 생성
             if (user.getUsername() == null || user.getUsername().isEmpty()) {
                 String baseUsername = user.getEmail() != null ? user.getEmail().split("@")[0] : "user";
-                String username = baseUsername;
-                int counter = 1;
-
-                while (userRepository.existsByUsername(username)) {
-                    username = baseUsername + counter;
-                    counter++;
-                }
+                String username = identifierAllocator.allocateUsername(baseUsername);
 
                 user.setUsername(username);
                 needsUpdate = true;
@@ -53,13 +52,7 @@ public class DataLoader implements CommandLineRunner {
             // 닉네임이 없는 경우
             if (user.getNickname() == null || user.getNickname().isEmpty()) {
                 String baseNickname = user.getName() != null ? user.getName() : user.getUsername();
-                String nickname = baseNickname;
-                int counter = 1;
-
-                while (userRepository.existsByNickname(nickname)) {
-                    nickname = baseNickname + counter;
-                    counter++;
-                }
+                String nickname = identifierAllocator.allocateNickname(baseNickname);
 
                 user.setNickname(nickname);
                 needsUpdate = true;
@@ -68,6 +61,9 @@ public class DataLoader implements CommandLineRunner {
 
             if (needsUpdate) {
                 userRepository.save(user);
+                // 할당된 값이 사용 중으로 보이도록 인덱스에 추가 (다른 노드에도 전파됨)
+                identityIndex.add(IdentityIndex.Field.USERNAME, user.getUsername());
+                identityIndex.add(IdentityIndex.Field.NICKNAME, user.getNickname());
             }
         });
     }
@@ -210,9 +206,7 @@ public class DataLoader implements CommandLineRunner {
                 .build()
         };
 
-        for (Product product : sampleProducts) {
-            productRepository.save(product);
-        }
+        productRepository.saveAll(Arrays.asList(sampleProducts));
 
         log.info("Created {} sample products", sampleProducts.length);
     }
@@ -0,0 +1,27 @@
+package com.example.order_service.config;
+
+import com.example.order_service.event.ProductChangeRelay;
+import com.example.order_service.security.TokenRevocationService;
+import com.example.order_service.service.IdentityIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TokenRevocationService tokenRevocationService,
+                                                                       IdentityIndex identityIndex,
+                                                                       ProductChangeRelay productChangeRelay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenRevocationService, new ChannelTopic(TokenRevocationService.CHANNEL));
+        container.addMessageListener(identityIndex, new ChannelTopic(IdentityIndex.CHANNEL));
+        container.addMessageListener(productChangeRelay, new ChannelTopic(ProductChangeRelay.CHANNEL));
+        return container;
+    }
+}
@@ -6,9 +6,11 @@ import com.example.order_service.dto.OAuth2SignupRequest;
 import com.example.order_service.dto.SignUpRequest;
 import com.example.order_service.dto.UserInfoResponse;
 import com.example.order_service.entity.User;
+import com.example.order_service.exception.TooManyRequestsException;
 import com.example.order_service.security.CustomUserDetailsService;
 import com.example.order_service.service.AuthService;
 import com.example.order_service.service.EmailService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -32,16 +34,20 @@ public class AuthController {
         try {
             AuthResponse response = authService.signUp(signUpRequest);
             return ResponseEntity.ok(response);
+        } catch (TooManyRequestsException e) {
+            return tooManyRequests(e);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
         }
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest, HttpServletRequest httpRequest) {
         try {
-            AuthResponse response = authService.login(loginRequest);
+            AuthResponse response = authService.login(loginRequest, httpRequest.getRemoteAddr());
             return ResponseEntity.ok(response);
+        } catch (TooManyRequestsException e) {
+            return tooManyRequests(e);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
         }
@@ -62,6 +68,24 @@ public class AuthController {
         }
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = "Authorization", required = false) String authorization,
+                                    @RequestBody(required = false) Map<String, String> request) {
+        String refreshToken = request != null ? request.get("refreshToken") : null;
+        authService.logout(extractBearerToken(authorization), refreshToken);
+        return ResponseEntity.ok(Map.of("message", "로그아웃되었습니다."));
+    }
+
+    @PostMapping("/logout-all")
+    public ResponseEntity<?> logoutEverywhere(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        try {
+            authService.logoutEverywhere(extractBearerToken(authorization));
+            return ResponseEntity.ok(Map.of("message", "모든 기기에서 로그아웃되었습니다."));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(401).body(Map.of("message", e.getMessage()));
+        }
+    }
+
     @GetMapping("/me")
     public ResponseEntity<?> getCurrentUser() {
         try {
@@ -208,4 +232,17 @@ public class AuthController {
             return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<?> tooManyRequests(TooManyRequestsException e) {
+        return ResponseEntity.status(429)
+                .header("Retry-After", String.valueOf(Math.max(1, e.getRetryAfterSeconds())))
+                .body(Map.of("message", e.getMessage()));
+    }
+
+    private String extractBearerToken(String authorization) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            return authorization.substring(7);
+        }
+        return null;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.order_service.controller;
 
 import com.example.order_service.entity.User;
 import com.example.order_service.repository.UserRepository;
+import com.example.order_service.service.IdentityIndex;
 import com.example.order_service.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +20,7 @@ public class OAuth2SignupController {
 
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final IdentityIndex identityIndex;
 
     @PostMapping("/signup/complete")
     public ResponseEntity<?> completeOAuth2Signup(@RequestBody Map<String, String> signupData) {
@@ -41,6 +43,7 @@ public class OAuth2SignupController {
                     .build();
 
             User savedUser = userRepository.save(user);
+            identityIndex.addUser(savedUser.getUsername(), savedUser.getNickname(), savedUser.getEmail());
 
             // JWT 토큰 생성
             String token = jwtTokenProvider.generateAccessToken(savedUser.getEmail());
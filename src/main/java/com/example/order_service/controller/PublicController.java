@@ -1,73 +1,351 @@
 package com.example.order_service.controller;
 
+import com.example.order_service.dto.ProductChangeSet;
 import com.example.order_service.dto.ProductDTO;
-import com.example.order_service.entity.Product;
+import com.example.order_service.dto.ProductSlice;
+import com.example.order_service.exception.TooManyRequestsException;
+import com.example.order_service.repository.ProductChangeRepository;
 import com.example.order_service.repository.ProductRepository;
+import com.example.order_service.service.AutocompleteService;
+import com.example.order_service.service.CatalogCache;
+import com.example.order_service.service.CatalogPayloadCache;
+import com.example.order_service.service.CatalogSnapshot;
+import com.example.order_service.service.CategoryFacetIndex;
+import com.example.order_service.service.ProductLiveUpdateBroadcaster;
+import com.example.order_service.service.ProductSearchIndex;
+import com.example.order_service.util.PrefixIndex;
+import com.example.order_service.util.ProductCursor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/public")
 @RequiredArgsConstructor
 public class PublicController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int MAX_CHANGES = 1000;
+    // page 기반 조회가 건너뛸 수 있는 최대 행 수. 더 깊은 페이지는 OFFSET 비용이 커서 커서로만 허용
+    private static final int MAX_PAGE_OFFSET = 10_000;
+    private static final Set<ProductCursor.SortKey> PUBLIC_SORT_KEYS =
+            EnumSet.of(ProductCursor.SortKey.CREATED_AT, ProductCursor.SortKey.PRICE);
+    // 캐시는 하되 매번 ETag로 재검증 (Spring Security 기본 no-store 헤더 대신 적용됨)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
+    private static final TypeReference<ProductSlice> PRODUCT_SLICE = new TypeReference<>() {};
+    private static final TypeReference<List<ProductDTO>> PRODUCT_LIST = new TypeReference<>() {};
+    private static final TypeReference<ProductDTO> PRODUCT = new TypeReference<>() {};
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
     private final ProductRepository productRepository;
+    private final ProductChangeRepository productChangeRepository;
+    private final CatalogCache catalogCache;
+    private final CatalogPayloadCache payloadCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final AutocompleteService autocompleteService;
+    private final CategoryFacetIndex categoryFacetIndex;
+    private final ProductLiveUpdateBroadcaster liveUpdateBroadcaster;
+    private final CatalogSnapshot catalogSnapshot;
 
+    @Value("${app.catalog.changes.settle-msec:5000}")
+    private long changesSettleMillis;
+
+    /**
+     * 상품 목록. 응답 본문은 상품 배열이고, 다음 페이지 커서는 X-Next-Cursor 헤더로 전달한다.
+     * cursor가 있으면 키셋 방식으로 이어 읽고, 없으면 page 기반(하위 호환)으로 읽는다.
+     * page 기반은 앞쪽 MAX_PAGE_OFFSET개 상품까지만 허용하며 그 이후는 X-Next-Cursor로 이어 읽어야 한다.
+     */
     @GetMapping("/products")
-    public ResponseEntity<List<ProductDTO>> getProducts(
+    public ResponseEntity<?> getProducts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDir,
-            @RequestParam(required = false) String category) {
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest,
+            HttpServletRequest request,
+            HttpServletResponse httpResponse) throws IOException {
+
+        ProductCursor.SortKey sortKey;
+        ProductCursor after;
+        boolean descending = sortDir.equalsIgnoreCase("desc");
+        try {
+            sortKey = ProductCursor.SortKey.fromProperty(sortBy);
+            if (!PUBLIC_SORT_KEYS.contains(sortKey)) {
+                throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sortBy);
+            }
+            after = cursor != null && !cursor.isEmpty() ? ProductCursor.decode(cursor, sortKey, descending) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // long으로 계산해 큰 page 값의 int 오버플로를 막음
+        long requestedOffset = after == null ? (long) Math.max(page, 0) * limit : 0L;
+        if (requestedOffset > MAX_PAGE_OFFSET) {
+            return ResponseEntity.badRequest().body(Map.of("message",
+                    "page 기반 조회는 앞쪽 " + MAX_PAGE_OFFSET + "개 상품까지만 지원합니다. 이후 페이지는 " +
+                            NEXT_CURSOR_HEADER + " 헤더의 cursor로 이어서 조회해주세요."));
+        }
+        int offset = (int) requestedOffset;
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        if (isNotModified(webRequest)) {
+            return null;
+        }
+
+        String filter = category != null && !category.isEmpty() ? category : null;
 
-        PageRequest pageRequest = PageRequest.of(page, size, sort);
-        Page<Product> products;
+        String cacheKey = "products:" + sortKey.property() + ":" + (descending ? "desc" : "asc") + ":" + limit
+                + ":" + (filter != null ? filter : "") + ":" + (after != null ? cursor : "p" + offset);
+        Supplier<ProductSlice> loader = () -> catalogCache.get(cacheKey, PRODUCT_SLICE,
+                () -> loadProducts(filter, sortKey, descending, after, offset, limit));
 
-        if (category != null && !category.isEmpty()) {
-            products = productRepository.findByCategory(category, pageRequest);
-        } else {
-            products = productRepository.findAll(pageRequest);
+        // 첫 페이지는 홈 화면마다 요청되므로 직렬화된 바이트를 그대로 씀
+        if (after == null && offset == 0) {
+            CatalogPayloadCache.Payload payload = payloadCache.get(cacheKey, loader,
+                    ProductSlice::getContent, ProductSlice::getNextCursor);
+            payloadCache.write(payload, NEXT_CURSOR_HEADER, request, httpResponse);
+            return null;
         }
 
-        List<ProductDTO> productDTOs = products.getContent().stream()
-                .map(ProductDTO::from)
-                .collect(Collectors.toList());
+        ProductSlice slice = loader.get();
 
-        return ResponseEntity.ok(productDTOs);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(REVALIDATE);
+        if (slice.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, slice.getNextCursor());
+        }
+        return response.body(slice.getContent());
+    }
+
+    /**
+     * 여러 상품을 한 번에 조회한다. 캐시에 있는 상품은 캐시에서, 나머지는 한 번의 IN 쿼리로 읽는다.
+     * 요청한 ID 순서대로 반환하며, 존재하지 않는 ID는 결과에서 빠진다.
+     */
+    @GetMapping("/products/batch")
+    public ResponseEntity<?> getProductsBatch(@RequestParam List<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("message", "한 번에 최대 " + MAX_BATCH_SIZE + "개까지 조회할 수 있습니다."));
+        }
+
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        Map<String, ProductDTO> cached = catalogCache.getAll(
+                distinctIds.stream().map(id -> "product:" + id).toList(), PRODUCT);
+
+        Map<Long, ProductDTO> byId = new HashMap<>();
+        cached.values().forEach(product -> byId.put(product.getId(), product));
+        List<Long> missing = distinctIds.stream().filter(id -> !byId.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            // DB를 읽기 전의 세대로 저장해, 읽는 중에 상품이 바뀌었으면 이전 값이 새 세대 캐시에 들어가지 않게 함
+            long loadGeneration = catalogCache.getGeneration();
+            for (ProductDTO product : productRepository.findDtosByIdIn(missing)) {
+                byId.put(product.getId(), product);
+                catalogCache.put("product:" + product.getId(), product, loadGeneration);
+            }
+        }
+
+        List<ProductDTO> products = distinctIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return ResponseEntity.ok(products);
+    }
+
+    /**
+     * since 이후에 생성/수정/판매 중지된 상품을 변경 순번 순서로 반환한다 (since=0이면 전체).
+     * 변경 순번은 커밋 직전에 발급되므로 DB 시계 기준으로 최근 settle 구간의 변경은 보류한다.
+     * 그 사이 더 작은 순번의 트랜잭션이 늦게 커밋되더라도 클라이언트가 그 변경을 건너뛰지 않게 하기 위함이다.
+     */
+    @GetMapping("/products/changes")
+    public ResponseEntity<?> getProductChanges(@RequestParam long since,
+                                               @RequestParam(defaultValue = "500") int limit) {
+        if (since < 0) {
+            return ResponseEntity.badRequest().body(Map.of("message", "since는 0 이상이어야 합니다."));
+        }
+
+        int size = Math.min(Math.max(limit, 1), MAX_CHANGES);
+        List<Object[]> rows = productChangeRepository.findChangesAfter(since, changesSettleMillis * 1000, size + 1);
+
+        // 보류 구간에 들어간 첫 행에서 멈춰야 반환 목록이 순번상 빈틈 없는 앞부분이 됨
+        List<Long> productIds = new ArrayList<>();
+        long nextSince = since;
+        boolean hasMore = false;
+        for (Object[] row : rows) {
+            boolean settled = ((Number) row[2]).intValue() == 1;
+            if (productIds.size() == size || !settled) {
+                hasMore = productIds.size() == size;
+                break;
+            }
+            productIds.add(((Number) row[0]).longValue());
+            nextSince = ((Number) row[1]).longValue();
+        }
+
+        Map<Long, ProductDTO> byId = new HashMap<>();
+        if (!productIds.isEmpty()) {
+            productRepository.findDtosByIdIn(productIds).forEach(product -> byId.put(product.getId(), product));
+        }
+        List<ProductDTO> products = productIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return ResponseEntity.ok(new ProductChangeSet(products, nextSince, hasMore));
+    }
+
+    /**
+     * 상품 가격/재고 변경을 SSE로 구독한다. 이벤트 이름은 product(변경된 값) 또는 removed(삭제됨)이다.
+     * 연결 직후의 현재 값은 보내지 않으므로 클라이언트는 /products/{id}로 읽은 값에 이벤트를 덮어쓴다.
+     * 이벤트를 제때 받지 못해 밀린 연결은 서버가 닫으므로, 재연결 시 현재 값을 다시 읽어야 한다.
+     */
+    @GetMapping(value = "/products/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> subscribeLiveUpdates(@RequestParam List<Long> ids, HttpServletRequest request) {
+        List<Long> productIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (productIds.isEmpty() || productIds.size() > ProductLiveUpdateBroadcaster.MAX_PRODUCTS_PER_CONNECTION) {
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(Map.of("message",
+                    "상품은 1개 이상 " + ProductLiveUpdateBroadcaster.MAX_PRODUCTS_PER_CONNECTION + "개 이하로 구독할 수 있습니다."));
+        }
+
+        try {
+            SseEmitter emitter = liveUpdateBroadcaster.subscribe(productIds, request.getRemoteAddr());
+            // 프록시가 이벤트를 버퍼링하지 않도록 지정
+            return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+        } catch (TooManyRequestsException e) {
+            return ResponseEntity.status(429)
+                    .header("Retry-After", String.valueOf(e.getRetryAfterSeconds()))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("message", e.getMessage()));
+        }
     }
 
     @GetMapping("/products/{id}")
-    public ResponseEntity<ProductDTO> getProduct(@PathVariable Long id) {
-        return productRepository.findById(id)
-            .map(ProductDTO::from)
-            .map(ResponseEntity::ok)
-            .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<?> getProduct(@PathVariable Long id, WebRequest webRequest) {
+        if (isNotModified(webRequest)) {
+            return null;
+        }
+        // 스냅샷 이후 변경되지 않은 상품은 매핑된 파일의 JSON을 그대로 응답
+        byte[] snapshot = catalogSnapshot.find(id);
+        if (snapshot != null) {
+            return ResponseEntity.ok().cacheControl(REVALIDATE).contentType(MediaType.APPLICATION_JSON).body(snapshot);
+        }
+        ProductDTO product = catalogCache.get("product:" + id, PRODUCT,
+                () -> productRepository.findDtoById(id).orElse(null));
+        return product != null
+                ? ResponseEntity.ok().cacheControl(REVALIDATE).body(product)
+                : ResponseEntity.notFound().build();
     }
 
     @GetMapping("/products/featured")
-    public ResponseEntity<List<ProductDTO>> getFeaturedProducts() {
-        PageRequest pageRequest = PageRequest.of(0, 8, Sort.by("createdAt").descending());
-        List<ProductDTO> products = productRepository.findAll(pageRequest).getContent()
-                .stream()
-                .map(ProductDTO::from)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(products);
+    public void getFeaturedProducts(WebRequest webRequest, HttpServletRequest request,
+                                    HttpServletResponse response) throws IOException {
+        if (isNotModified(webRequest)) {
+            return;
+        }
+        CatalogPayloadCache.Payload payload = payloadCache.get("featured", () ->
+                catalogCache.get("featured", PRODUCT_LIST, () ->
+                        productRepository.findCatalogSlice(null, ProductCursor.SortKey.CREATED_AT, true, null, 0, 8)));
+        payloadCache.write(payload, null, request, response);
+    }
+
+    /**
+     * 상품 전문 검색. sort는 relevance, price_asc, price_desc, newest 중 하나.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "relevance") String sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of("message", "검색어가 필요합니다."));
+        }
+        try {
+            ProductSearchIndex.SortOrder order = ProductSearchIndex.SortOrder.from(sort);
+            return ResponseEntity.ok(productSearchIndex.search(q, order, page, Math.min(size, MAX_PAGE_SIZE)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<PrefixIndex.Suggestion>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(autocompleteService.suggest(q, Math.min(limit, MAX_SUGGESTIONS)));
     }
 
+    /**
+     * 카테고리 목록. withCounts=true이면 판매 중 상품 수와 최저/최고가를 함께 반환한다.
+     */
     @GetMapping("/categories")
-    public ResponseEntity<List<String>> getCategories() {
-        List<String> categories = productRepository.findDistinctCategories();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<?> getCategories(
+            @RequestParam(defaultValue = "false") boolean withCounts,
+            WebRequest webRequest,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        if (isNotModified(webRequest)) {
+            return null;
+        }
+
+        if (!categoryFacetIndex.isReady()) {
+            if (withCounts) {
+                return ResponseEntity.status(503).body(Map.of("message", "카테고리 집계를 준비 중입니다."));
+            }
+            List<String> categories = catalogCache.get("categories", STRING_LIST,
+                    productRepository::findDistinctCategories);
+            return ResponseEntity.ok().cacheControl(REVALIDATE).body(categories);
+        }
+
+        CatalogPayloadCache.Payload payload = withCounts
+                ? payloadCache.get("categories:counts", categoryFacetIndex::getFacets)
+                : payloadCache.get("categories", categoryFacetIndex::getCategoryNames);
+        payloadCache.write(payload, null, request, response);
+        return null;
+    }
+
+    /**
+     * 카탈로그 버전 기준 조건부 요청 처리. 일치하면 304 헤더만 설정하고 true를 반환하므로
+     * 호출한 쪽은 DB 조회와 직렬화 없이 바로 null을 반환한다.
+     */
+    private boolean isNotModified(WebRequest webRequest) {
+        return webRequest.checkNotModified(catalogCache.etag(), catalogCache.getLastModifiedMillis());
+    }
+
+    private ProductSlice loadProducts(String category, ProductCursor.SortKey sortKey, boolean descending,
+                                      ProductCursor after, int offset, int limit) {
+        // 한 행을 더 읽어 다음 페이지 존재 여부를 COUNT 없이 판단
+        List<ProductDTO> rows = productRepository.findCatalogSlice(category, sortKey, descending, after, offset, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<ProductDTO> content = hasNext ? new ArrayList<>(rows.subList(0, limit)) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ProductDTO last = content.get(content.size() - 1);
+            Object lastValue = sortKey == ProductCursor.SortKey.PRICE ? last.getPrice() : last.getCreatedAt();
+            nextCursor = new ProductCursor(sortKey, descending, lastValue, last.getId()).encode();
+        }
+        return new ProductSlice(content, nextCursor);
     }
-}
\ No newline at end of file
+}
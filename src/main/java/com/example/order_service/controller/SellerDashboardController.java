@@ -1,10 +1,16 @@
 package com.example.order_service.controller;
 
+import com.example.order_service.dto.ProductImportResult;
 import com.example.order_service.dto.SellerDashboardStats;
+import com.example.order_service.entity.Product;
 import com.example.order_service.entity.User;
 import com.example.order_service.security.CustomUserDetailsService;
+import com.example.order_service.service.ProductImportService;
 import com.example.order_service.service.SellerDashboardService;
+import com.example.order_service.util.ProductCursor;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -12,17 +18,27 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
 @Controller
 @RequestMapping("/seller")
 @RequiredArgsConstructor
+@Slf4j
 @PreAuthorize("hasRole('SELLER')")
 public class SellerDashboardController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final SellerDashboardService sellerDashboardService;
     private final CustomUserDetailsService userDetailsService;
+    private final ProductImportService productImportService;
 
     @GetMapping("/dashboard")
     public String dashboard(Model model) {
@@ -45,4 +61,75 @@ public class SellerDashboardController {
         SellerDashboardStats stats = sellerDashboardService.getSellerDashboardStats(seller);
         return ResponseEntity.ok(stats);
     }
-}
\ No newline at end of file
+
+    /**
+     * 판매자 본인 상품 목록. status/category/maxStock으로 필터하고 createdAt/price/stockQuantity로 정렬한다.
+     * 다음 페이지는 응답의 nextCursor를 cursor 파라미터로 넘겨 키셋 방식으로 읽는다.
+     */
+    @GetMapping("/api/products")
+    public ResponseEntity<?> getSellerProducts(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Integer maxStock,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        User seller = userDetailsService.findByEmail(auth.getName())
+                .orElseThrow(() -> new RuntimeException("Seller not found"));
+
+        if (seller.getRole() != User.Role.SELLER) {
+            return ResponseEntity.status(403).build();
+        }
+
+        Product.ProductStatus statusFilter;
+        ProductCursor.SortKey sortKey;
+        ProductCursor after;
+        boolean descending = sortDir.equalsIgnoreCase("desc");
+        try {
+            statusFilter = status != null && !status.isEmpty()
+                    ? Product.ProductStatus.valueOf(status.toUpperCase(Locale.ROOT))
+                    : null;
+            sortKey = ProductCursor.SortKey.fromProperty(sortBy);
+            after = cursor != null && !cursor.isEmpty() ? ProductCursor.decode(cursor, sortKey, descending) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", "잘못된 조회 조건입니다: " + e.getMessage()));
+        }
+
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String categoryFilter = category != null && !category.isEmpty() ? category : null;
+        return ResponseEntity.ok(sellerDashboardService.getSellerProducts(
+                seller, statusFilter, categoryFilter, maxStock, sortKey, descending, after, limit));
+    }
+
+    /**
+     * 상품 일괄 등록. 요청 본문을 text/csv 또는 application/x-ndjson으로 그대로 보내면 스트리밍으로 처리한다.
+     */
+    @PostMapping(value = "/api/products/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<?> importProducts(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        User seller = userDetailsService.findByEmail(auth.getName())
+                .orElseThrow(() -> new RuntimeException("Seller not found"));
+
+        if (seller.getRole() != User.Role.SELLER) {
+            return ResponseEntity.status(403).build();
+        }
+
+        ProductImportService.Format format = request.getContentType().startsWith("text/csv")
+                ? ProductImportService.Format.CSV
+                : ProductImportService.Format.NDJSON;
+        try {
+            ProductImportResult result = productImportService.importProducts(seller, request.getInputStream(), format);
+            // 읽기/저장 오류로 중단되어도 그 전까지 저장된 결과를 함께 돌려줌
+            return result.getFatalError() != null
+                    ? ResponseEntity.badRequest().body(result)
+                    : ResponseEntity.ok(result);
+        } catch (IllegalArgumentException | IOException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (RuntimeException e) {
+            log.error("Product import failed: sellerId={}", seller.getId(), e);
+            return ResponseEntity.status(500).body(Map.of("message", "상품 일괄 등록 중 오류가 발생했습니다."));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.order_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryFacet {
+    private String category;
+    // 판매 중(ACTIVE)인 상품 수
+    private long productCount;
+    // 판매 중인 상품이 없으면 null
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+}
@@ -0,0 +1,24 @@
+package com.example.order_service.dto;
+
+import com.example.order_service.entity.Order;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatusChangedEvent {
+    private Long orderId;
+    private String orderNumber;
+    private Long customerId;
+    private String customerEmail;
+    private String customerName;
+    private Order.OrderStatus previousStatus;
+    private Order.OrderStatus status;
+    private LocalDateTime changedAt;
+}
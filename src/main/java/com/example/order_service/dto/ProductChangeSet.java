@@ -0,0 +1,21 @@
+package com.example.order_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 델타 동기화 응답. 클라이언트는 nextSince를 저장해 두었다가 다음 요청의 since로 보낸다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductChangeSet {
+    // 변경 순번 순서. 판매 중지된 상품도 status와 함께 포함됨
+    private List<ProductDTO> products;
+    private long nextSince;
+    // true이면 남은 변경이 있으므로 바로 다시 요청
+    private boolean hasMore;
+}
@@ -25,6 +25,16 @@ public class ProductDTO {
     private String sellerName;
     private LocalDateTime createdAt;
 
+    /**
+     * JPQL 생성자 표현식용. 판매자 이름을 같은 쿼리에서 조인해 가져온다.
+     */
+    public ProductDTO(Long id, String name, String description, BigDecimal price, Integer stockQuantity,
+                      String imageUrl, String category, Product.ProductStatus status, String sellerName,
+                      LocalDateTime createdAt) {
+        this(id, name, description, price, stockQuantity, imageUrl, category,
+                status != null ? status.name() : null, sellerName, createdAt);
+    }
+
     public static ProductDTO from(Product product) {
         return ProductDTO.builder()
                 .id(product.getId())
@@ -0,0 +1,15 @@
+package com.example.order_service.dto;
+
+import com.example.order_service.entity.Product;
+
+import java.math.BigDecimal;
+
+/**
+ * 카테고리 집계용 products 테이블 프로젝션.
+ */
+public interface ProductFacetView {
+    Long getId();
+    String getCategory();
+    BigDecimal getPrice();
+    Product.ProductStatus getStatus();
+}
@@ -0,0 +1,29 @@
+package com.example.order_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ProductImportResult {
+    private long processed;
+    private long imported;
+    private long failed;
+    private List<RowError> errors = new ArrayList<>();
+    // 오류가 많으면 앞부분만 담고 true로 표시
+    private boolean errorsTruncated;
+    // 스트림을 끝까지 읽지 못한 이유. 그 전까지 저장된 행은 imported에 포함됨
+    private String fatalError;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.order_service.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 일괄 등록 파일의 한 행. CSV 헤더와 NDJSON 필드 이름이 모두 이 필드 이름을 따른다.
+ */
+@Data
+@NoArgsConstructor
+public class ProductImportRow {
+    private String sku;
+    private String name;
+    private String description;
+    private BigDecimal price;
+    private Integer stockQuantity;
+    private String category;
+    private String imageUrl;
+    private String status;
+}
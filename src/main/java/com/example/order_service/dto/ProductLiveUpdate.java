@@ -0,0 +1,21 @@
+package com.example.order_service.dto;
+
+import com.example.order_service.entity.Product;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 페이지 실시간 갱신(SSE)으로 보내는 가격/재고 정보.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLiveUpdate {
+    private Long productId;
+    private BigDecimal price;
+    private Integer stockQuantity;
+    private Product.ProductStatus status;
+}
@@ -0,0 +1,16 @@
+package com.example.order_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSlice {
+    private List<ProductDTO> content;
+    // 다음 페이지가 없으면 null
+    private String nextCursor;
+}
@@ -0,0 +1,27 @@
+package com.example.order_service.dto;
+
+import com.example.order_service.entity.Product;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 판매자 상품 관리 목록의 한 행. 목록에 필요한 컬럼만 조회한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SellerProductDTO {
+    private Long id;
+    private String sku;
+    private String name;
+    private BigDecimal price;
+    private Integer stockQuantity;
+    private String category;
+    private Product.ProductStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,11 @@
+package com.example.order_service.dto;
+
+/**
+ * 식별자 인덱스 구축용 users 테이블 프로젝션 (엔티티 전체를 로딩하지 않음).
+ */
+public interface UserIdentityView {
+    Long getId();
+    String getUsername();
+    String getNickname();
+    String getEmail();
+}
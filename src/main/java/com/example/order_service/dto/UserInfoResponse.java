@@ -20,6 +20,7 @@ public class UserInfoResponse {
     private String profileImage;
     private boolean emailVerified;
     private String authProvider;
+    private Long version;
 
     public static UserInfoResponse from(User user) {
         return UserInfoResponse.builder()
@@ -32,6 +33,7 @@ public class UserInfoResponse {
                 .profileImage(user.getProfileImage())
                 .emailVerified(user.getEmailVerified())
                 .authProvider(user.getAuthProvider().name())
+                .version(user.getVersion())
                 .build();
     }
 }
\ No newline at end of file
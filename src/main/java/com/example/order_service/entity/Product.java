@@ -1,5 +1,6 @@
 package com.example.order_service.entity;
 
+import com.example.order_service.event.ProductEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,12 +14,29 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_products_price", columnList = "price, id"),
+        @Index(name = "idx_products_category_created_at", columnList = "category, created_at, id"),
+        @Index(name = "idx_products_category_price", columnList = "category, price, id"),
+        // 판매자 목록: 정렬마다 필터 없음/상태/카테고리 조합. 상태와 카테고리를 함께 주면 카테고리 인덱스에서 상태를 거름
+        @Index(name = "idx_products_seller_created_at", columnList = "seller_id, created_at, id"),
+        @Index(name = "idx_products_seller_price", columnList = "seller_id, price, id"),
+        @Index(name = "idx_products_seller_stock", columnList = "seller_id, stock_quantity, id"),
+        @Index(name = "idx_products_seller_status_created_at", columnList = "seller_id, status, created_at, id"),
+        @Index(name = "idx_products_seller_status_price", columnList = "seller_id, status, price, id"),
+        @Index(name = "idx_products_seller_status_stock", columnList = "seller_id, status, stock_quantity, id"),
+        @Index(name = "idx_products_seller_category_created_at", columnList = "seller_id, category, created_at, id"),
+        @Index(name = "idx_products_seller_category_price", columnList = "seller_id, category, price, id"),
+        @Index(name = "idx_products_seller_category_stock", columnList = "seller_id, category, stock_quantity, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_products_seller_sku", columnNames = {"seller_id", "seller_sku"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ProductEntityListener.class})
 public class Product {
 
     @Id
@@ -53,6 +71,10 @@ public class Product {
     @JoinColumn(name = "seller_id", nullable = false)
     private User seller;
 
+    // 판매자가 부여한 상품 코드. 일괄 등록 시 같은 코드의 상품은 갱신됨
+    @Column(name = "seller_sku", length = 64)
+    private String sellerSku;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,34 @@
+package com.example.order_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 마지막 변경 기록. 상품이 바뀐 트랜잭션 안에서 REPLACE로 다시 쓰므로 seq는 DB AUTO_INCREMENT가 새로 발급하고,
+ * changed_at은 DB 시계(NOW(6))로 기록된다. 델타 동기화 API와 카탈로그 스냅샷의 기준이다.
+ */
+@Entity
+@Table(name = "product_changes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_changes_product_id", columnNames = {"product_id"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -72,6 +72,11 @@ public class User {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 기존 행은 DEFAULT 0으로 채워짐
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
+
     public enum Role {
         USER, SELLER, ADMIN
     }
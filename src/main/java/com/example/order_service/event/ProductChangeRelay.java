@@ -0,0 +1,82 @@
+package com.example.order_service.event;
+
+import com.example.order_service.service.CatalogCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 이 노드에서 커밋된 상품 변경을 Redis pub/sub으로 다른 노드에 전달하고,
+ * 다른 노드의 변경은 remote=true인 ProductChangedEvent로 다시 발행한다.
+ * 검색 인덱스, 카테고리 집계처럼 노드마다 메모리에 유지하는 파생 데이터가 이 이벤트로 함께 갱신된다.
+ * <p>
+ * 카탈로그 세대 번호도 같은 메시지에 실어 보낸다. 받는 노드는 remote 이벤트를 동기로 처리해 파생 데이터를 다시 읽은 뒤에
+ * 세대를 적용하므로, 새 ETag로 응답 바이트가 만들어질 때 이전 집계가 담기지 않는다.
+ * 메시지 형식: "노드ID 변경유형 ID,ID,... 세대 마지막변경시각(ms)". 세대가 0이면 보낸 노드가 Redis에 올리지 못한 것이다.
+ */
+@Component
+@Slf4j
+public class ProductChangeRelay implements MessageListener {
+
+    public static final String CHANNEL = "catalog:product-changed";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogCache catalogCache;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ProductChangeRelay(StringRedisTemplate redisTemplate, ApplicationEventPublisher eventPublisher,
+                              CatalogCache catalogCache) {
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.catalogCache = catalogCache;
+    }
+
+    // 카테고리 집계(HIGHEST_PRECEDENCE)가 이 노드에 반영된 뒤에 세대를 올림
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        CatalogCache.Version version = catalogCache.bump();
+        long generation = version != null ? version.generation() : 0L;
+        long lastModified = version != null ? version.lastModifiedMillis() : System.currentTimeMillis();
+        try {
+            String ids = event.productIds().stream().map(String::valueOf).collect(Collectors.joining(","));
+            redisTemplate.convertAndSend(CHANNEL,
+                    nodeId + " " + event.type() + " " + ids + " " + generation + " " + lastModified);
+        } catch (Exception e) {
+            log.warn("Failed to relay product change: products={}, error={}", event.productIds().size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(" ");
+        if (parts.length != 5 || nodeId.equals(parts[0])) {
+            return;
+        }
+        List<Long> productIds = Arrays.stream(parts[2].split(",")).map(Long::valueOf).toList();
+        try {
+            // 트랜잭션 밖이라 리스너가 이 스레드에서 바로 실행되므로, 반환 시점에는 파생 데이터가 갱신되어 있음
+            eventPublisher.publishEvent(new ProductChangedEvent(
+                    productIds, ProductChangedEvent.ChangeType.valueOf(parts[1]), true));
+        } finally {
+            catalogCache.advanceTo(Long.parseLong(parts[3]), Long.parseLong(parts[4]));
+        }
+    }
+}
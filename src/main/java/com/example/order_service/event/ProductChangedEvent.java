@@ -0,0 +1,24 @@
+package com.example.order_service.event;
+
+import java.util.List;
+
+/**
+ * Product 행이 생성/수정/삭제되었음을 알리는 애플리케이션 이벤트.
+ * 카탈로그 캐시 등 파생 데이터는 이 이벤트로 갱신한다.
+ * 일괄 등록처럼 여러 행이 한 트랜잭션에서 바뀌면 ID 목록을 한 이벤트로 묶어 발행한다.
+ * remote가 true이면 다른 노드에서 커밋된 변경을 ProductChangeRelay가 다시 발행한 것이다.
+ */
+public record ProductChangedEvent(List<Long> productIds, ChangeType type, boolean remote) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public ProductChangedEvent(Long productId, ChangeType type) {
+        this(List.of(productId), type, false);
+    }
+
+    public ProductChangedEvent(List<Long> productIds, ChangeType type) {
+        this(List.copyOf(productIds), type, false);
+    }
+}
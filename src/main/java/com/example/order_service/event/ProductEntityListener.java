@@ -0,0 +1,41 @@
+package com.example.order_service.event;
+
+import com.example.order_service.entity.Product;
+import com.example.order_service.service.CatalogChangeSequence;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product 엔티티 변경을 ProductChangedEvent로 발행하고, 커밋 직전에 변경 순번이 기록되도록 예약한다.
+ * Spring Boot가 Hibernate에 SpringBeanContainer를 설정하므로 이 리스너는 Spring 빈으로 주입된다.
+ * JPQL 벌크 UPDATE/DELETE는 엔티티 콜백을 거치지 않으므로 직접 순번을 기록하고 이벤트를 발행해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogChangeSequence changeSequence;
+
+    @PostPersist
+    public void onCreated(Product product) {
+        changeSequence.recordOnCommit(product.getId());
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId(), ProductChangedEvent.ChangeType.CREATED));
+    }
+
+    @PostUpdate
+    public void onUpdated(Product product) {
+        changeSequence.recordOnCommit(product.getId());
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId(), ProductChangedEvent.ChangeType.UPDATED));
+    }
+
+    @PostRemove
+    public void onDeleted(Product product) {
+        changeSequence.recordOnCommit(product.getId());
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId(), ProductChangedEvent.ChangeType.DELETED));
+    }
+}
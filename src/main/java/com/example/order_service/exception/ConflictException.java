@@ -0,0 +1,11 @@
+package com.example.order_service.exception;
+
+/**
+ * 동시 수정 등으로 요청을 반영할 수 없을 때 발생한다. 컨트롤러에서 409로 변환한다.
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
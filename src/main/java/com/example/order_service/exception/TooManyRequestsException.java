@@ -0,0 +1,17 @@
+package com.example.order_service.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리 용량이나 요청 한도를 초과했을 때 발생한다. 컨트롤러에서 429로 변환한다.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.order_service.repository;
+
+import com.example.order_service.entity.EmailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    @Query("SELECT e.id FROM EmailOutbox e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt")
+    List<Long> findDueIds(@Param("status") EmailOutbox.OutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조건부 UPDATE로 한 노드만 메시지를 가져가도록 함. 처리 중 노드가 죽으면 leaseUntil 이후 다시 대상이 됨
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutbox e SET e.nextAttemptAt = :leaseUntil, e.attempts = e.attempts + 1 " +
+           "WHERE e.id = :id AND e.status = :status AND e.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("status") EmailOutbox.OutboxStatus status,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 보존 기간이 지난 종료 상태 메시지. (status, created_at) 인덱스로 청크 단위 조회
+    @Query("SELECT e.id FROM EmailOutbox e WHERE e.status IN :statuses AND e.createdAt < :before")
+    List<Long> findFinishedIdsBefore(@Param("statuses") List<EmailOutbox.OutboxStatus> statuses,
+                                     @Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EmailOutbox e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+}
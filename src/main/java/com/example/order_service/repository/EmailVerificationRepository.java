@@ -1,13 +1,16 @@
 package com.example.order_service.repository;
 
 import com.example.order_service.entity.EmailVerification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,10 +22,13 @@ public interface EmailVerificationRepository extends JpaRepository<EmailVerifica
 
     Optional<EmailVerification> findByEmailAndIsUsedFalse(String email);
 
+    @Query("SELECT e.id FROM EmailVerification e WHERE e.expiresAt < :now ORDER BY e.expiresAt")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
     @Modifying
     @Transactional
-    @Query("DELETE FROM EmailVerification e WHERE e.expiresAt < :now")
-    void deleteExpiredTokens(LocalDateTime now);
+    @Query("DELETE FROM EmailVerification e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 
     @Modifying
     @Transactional
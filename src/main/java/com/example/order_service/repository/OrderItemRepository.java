@@ -18,6 +18,9 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
            "GROUP BY oi.product.id, oi.product.name ORDER BY SUM(oi.totalPrice) DESC")
     List<Object[]> getTopProductsBySeller(@Param("seller") User seller);
 
+    @Query("SELECT oi.product.id, SUM(oi.quantity) FROM OrderItem oi GROUP BY oi.product.id")
+    List<Object[]> sumQuantityByProduct();
+
     @Query("SELECT DATE(oi.order.createdAt), SUM(oi.totalPrice), COUNT(DISTINCT oi.order.id) " +
            "FROM OrderItem oi WHERE oi.product.seller = :seller " +
            "AND oi.order.createdAt >= :startDate " +
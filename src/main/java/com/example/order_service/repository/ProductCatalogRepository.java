@@ -0,0 +1,34 @@
+package com.example.order_service.repository;
+
+import com.example.order_service.dto.ProductDTO;
+import com.example.order_service.dto.SellerProductDTO;
+import com.example.order_service.entity.Product;
+import com.example.order_service.util.ProductCursor;
+
+import java.util.List;
+
+/**
+ * 공개 카탈로그/판매자 상품 목록 조회용 커스텀 쿼리.
+ * 정렬 키/방향/카테고리 조합마다 JPQL을 만들어 복합 인덱스 순서 그대로 읽는다.
+ * 엔티티 대신 ProductDTO를 판매자 이름과 함께 한 번의 쿼리로 조회한다.
+ */
+public interface ProductCatalogRepository {
+
+    String PRODUCT_DTO_SELECT = "SELECT new com.example.order_service.dto.ProductDTO("
+            + "p.id, p.name, p.description, p.price, p.stockQuantity, p.imageUrl, p.category, p.status, "
+            + "s.name, p.createdAt) FROM Product p JOIN p.seller s";
+
+    /**
+     * 커서 다음 행부터 최대 limit개를 조회한다. COUNT 쿼리는 실행하지 않는다.
+     * cursor가 없으면 offset부터 읽는다 (하위 호환용 page 파라미터).
+     */
+    List<ProductDTO> findCatalogSlice(String category, ProductCursor.SortKey sortKey, boolean descending,
+                                      ProductCursor cursor, int offset, int limit);
+
+    /**
+     * 판매자 상품 목록을 키셋 방식으로 조회한다. status, category, maxStock은 null이면 필터하지 않는다.
+     */
+    List<SellerProductDTO> findSellerProducts(Long sellerId, Product.ProductStatus status, String category,
+                                              Integer maxStock, ProductCursor.SortKey sortKey, boolean descending,
+                                              ProductCursor cursor, int limit);
+}
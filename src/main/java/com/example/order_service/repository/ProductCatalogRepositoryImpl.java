@@ -0,0 +1,92 @@
+package com.example.order_service.repository;
+
+import com.example.order_service.dto.ProductDTO;
+import com.example.order_service.dto.SellerProductDTO;
+import com.example.order_service.entity.Product;
+import com.example.order_service.util.ProductCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+public class ProductCatalogRepositoryImpl implements ProductCatalogRepository {
+
+    private static final String SELLER_PRODUCT_SELECT = "SELECT new com.example.order_service.dto.SellerProductDTO("
+            + "p.id, p.sellerSku, p.name, p.price, p.stockQuantity, p.category, p.status, p.createdAt, p.updatedAt) "
+            + "FROM Product p";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductDTO> findCatalogSlice(String category, ProductCursor.SortKey sortKey, boolean descending,
+                                             ProductCursor cursor, int offset, int limit) {
+        StringBuilder jpql = new StringBuilder(PRODUCT_DTO_SELECT).append(" WHERE 1 = 1");
+        if (category != null) {
+            jpql.append(" AND p.category = :category");
+        }
+        appendKeyset(jpql, sortKey, descending, cursor);
+
+        TypedQuery<ProductDTO> query = entityManager.createQuery(jpql.toString(), ProductDTO.class);
+        if (category != null) {
+            query.setParameter("category", category);
+        }
+        if (cursor != null) {
+            query.setParameter("lastValue", cursor.value());
+            query.setParameter("lastId", cursor.id());
+        } else if (offset > 0) {
+            query.setFirstResult(offset);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<SellerProductDTO> findSellerProducts(Long sellerId, Product.ProductStatus status, String category,
+                                                     Integer maxStock, ProductCursor.SortKey sortKey, boolean descending,
+                                                     ProductCursor cursor, int limit) {
+        StringBuilder jpql = new StringBuilder(SELLER_PRODUCT_SELECT).append(" WHERE p.seller.id = :sellerId");
+        if (status != null) {
+            jpql.append(" AND p.status = :status");
+        }
+        if (category != null) {
+            jpql.append(" AND p.category = :category");
+        }
+        if (maxStock != null) {
+            jpql.append(" AND p.stockQuantity <= :maxStock");
+        }
+        appendKeyset(jpql, sortKey, descending, cursor);
+
+        TypedQuery<SellerProductDTO> query = entityManager.createQuery(jpql.toString(), SellerProductDTO.class)
+                .setParameter("sellerId", sellerId);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (category != null) {
+            query.setParameter("category", category);
+        }
+        if (maxStock != null) {
+            query.setParameter("maxStock", maxStock);
+        }
+        if (cursor != null) {
+            query.setParameter("lastValue", cursor.value());
+            query.setParameter("lastId", cursor.id());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    // (sort, id) 튜플 비교를 인덱스 범위 스캔이 가능한 형태로 풀어 쓰고, 같은 순서로 정렬
+    private static void appendKeyset(StringBuilder jpql, ProductCursor.SortKey sortKey, boolean descending,
+                                     ProductCursor cursor) {
+        String column = "p." + sortKey.property();
+        String comparator = descending ? "<" : ">";
+        String direction = descending ? "DESC" : "ASC";
+
+        if (cursor != null) {
+            jpql.append(" AND (").append(column).append(' ').append(comparator).append(" :lastValue")
+                .append(" OR (").append(column).append(" = :lastValue AND p.id ").append(comparator).append(" :lastId))");
+        }
+        jpql.append(" ORDER BY ").append(column).append(' ').append(direction)
+            .append(", p.id ").append(direction);
+    }
+}
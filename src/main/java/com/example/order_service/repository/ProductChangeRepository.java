@@ -0,0 +1,29 @@
+package com.example.order_service.repository;
+
+import com.example.order_service.entity.ProductChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProductChangeRepository extends JpaRepository<ProductChange, Long> {
+
+    /**
+     * since 이후의 변경을 순번 순서로 반환한다. 각 행은 [상품 ID, 순번, settled(1/0)]이며,
+     * settled는 DB 시계 기준으로 settleMicros보다 오래된 변경인지를 뜻한다.
+     */
+    @Query(value = "SELECT c.product_id, c.seq, c.changed_at < NOW(6) - INTERVAL :settleMicros MICROSECOND " +
+                   "FROM product_changes c WHERE c.seq > :since ORDER BY c.seq LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> findChangesAfter(@Param("since") long since, @Param("settleMicros") long settleMicros,
+                                    @Param("limit") int limit);
+
+    // PK를 뒤에서부터 읽으므로 최근 settle 구간의 행만 건너뛰면 됨
+    @Query(value = "SELECT c.seq FROM product_changes c " +
+                   "WHERE c.changed_at < NOW(6) - INTERVAL :settleMicros MICROSECOND ORDER BY c.seq DESC LIMIT 1",
+           nativeQuery = true)
+    Long findMaxSettledSeq(@Param("settleMicros") long settleMicros);
+}
@@ -1,22 +1,23 @@
 package com.example.order_service.repository;
 
+import com.example.order_service.dto.ProductDTO;
+import com.example.order_service.dto.ProductFacetView;
+import com.example.order_service.dto.ProductLiveUpdate;
 import com.example.order_service.entity.Product;
 import com.example.order_service.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
-
-    List<Product> findBySeller(User seller);
-
-    List<Product> findBySellerAndStatus(User seller, Product.ProductStatus status);
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductCatalogRepository {
 
     @Query("SELECT COUNT(p) FROM Product p WHERE p.seller = :seller")
     Long countBySeller(@Param("seller") User seller);
@@ -28,7 +29,40 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     Long countOutOfStockBySeller(@Param("seller") User seller);
 
     // Public browsing methods
-    Page<Product> findByCategory(String category, Pageable pageable);
+    @Query(PRODUCT_DTO_SELECT + " WHERE p.id = :id")
+    Optional<ProductDTO> findDtoById(@Param("id") Long id);
+
+    @Query(PRODUCT_DTO_SELECT + " WHERE p.id IN :ids")
+    List<ProductDTO> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(PRODUCT_DTO_SELECT + " WHERE p.id > :lastId ORDER BY p.id")
+    List<ProductDTO> findDtosAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query(PRODUCT_DTO_SELECT + " WHERE p.status = :status AND p.id > :lastId ORDER BY p.id")
+    List<ProductDTO> findDtosByStatusAfter(@Param("status") Product.ProductStatus status,
+                                           @Param("lastId") Long lastId, Pageable pageable);
+
+    // 검색 인덱스가 준비되기 전 임시 검색용. 인덱스를 타지 않는 LIKE 검색이므로 평상시에는 쓰지 않음
+    @Query(PRODUCT_DTO_SELECT + " WHERE p.name LIKE :pattern ESCAPE '!' OR p.category LIKE :pattern ESCAPE '!'")
+    List<ProductDTO> findDtosByKeyword(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query("SELECT p.id, p.name, p.category FROM Product p WHERE p.id > :lastId ORDER BY p.id")
+    List<Object[]> findSuggestionSourcesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.category AS category, p.price AS price, p.status AS status " +
+           "FROM Product p WHERE p.id > :lastId ORDER BY p.id")
+    List<ProductFacetView> findFacetSourcesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.category AS category, p.price AS price, p.status AS status " +
+           "FROM Product p WHERE p.id IN :ids")
+    List<ProductFacetView> findFacetSourcesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.example.order_service.dto.ProductLiveUpdate(p.id, p.price, p.stockQuantity, p.status) " +
+           "FROM Product p WHERE p.id IN :ids")
+    List<ProductLiveUpdate> findLiveUpdatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT MAX(p.updatedAt) FROM Product p")
+    LocalDateTime findLastUpdatedAt();
 
     @Query("SELECT DISTINCT p.category FROM Product p WHERE p.category IS NOT NULL")
     List<String> findDistinctCategories();
@@ -1,9 +1,15 @@
 package com.example.order_service.repository;
 
+import com.example.order_service.dto.UserIdentityView;
 import com.example.order_service.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +26,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByNickname(String nickname);
 
+    boolean existsByNicknameAndIdNot(String nickname, Long id);
+
+    boolean existsByEmailAndIdNot(String email, Long id);
+
+    // prefix LIKE는 유니크 인덱스 범위 스캔으로 처리됨 ('!'로 %, _ 이스케이프)
+    @Query("SELECT u.username FROM User u WHERE u.username LIKE :pattern ESCAPE '!'")
+    List<String> findUsernamesLike(@Param("pattern") String pattern);
+
+    @Query("SELECT u.nickname FROM User u WHERE u.nickname LIKE :pattern ESCAPE '!'")
+    List<String> findNicknamesLike(@Param("pattern") String pattern);
+
     Optional<User> findByAuthProviderAndProviderId(User.AuthProvider authProvider, String providerId);
 
     List<User> findByRole(User.Role role);
 
     Long countByRole(User.Role role);
-}
\ No newline at end of file
+
+    @Query("SELECT u.id AS id, u.username AS username, u.nickname AS nickname, u.email AS email " +
+           "FROM User u WHERE u.id > :lastId ORDER BY u.id")
+    List<UserIdentityView> findIdentitiesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE VERSIONED User u SET u.name = :name, u.profileImage = :profileImage, u.updatedAt = :now " +
+           "WHERE u.id = :id")
+    int updateOAuth2Profile(@Param("id") Long id, @Param("name") String name,
+                            @Param("profileImage") String profileImage, @Param("now") LocalDateTime now);
+}
@@ -2,6 +2,9 @@ package com.example.order_service.security;
 
 import com.example.order_service.entity.User;
 import com.example.order_service.repository.UserRepository;
+import com.example.order_service.service.IdentifierAllocator;
+import com.example.order_service.service.IdentityIndex;
+import com.example.order_service.service.ProfileRefreshBatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -12,6 +15,7 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -20,6 +24,9 @@ import java.util.Optional;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final IdentityIndex identityIndex;
+    private final IdentifierAllocator identifierAllocator;
+    private final ProfileRefreshBatcher profileRefreshBatcher;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest oAuth2UserRequest) throws OAuth2AuthenticationException {
@@ -84,23 +91,11 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     private User registerNewUser(OAuth2UserRequest oAuth2UserRequest, OAuth2UserInfo oAuth2UserInfo, String email) {
         String name = oAuth2UserInfo.getName();
 
-        // username 생성: 이메일의 @ 앞부분 사용
-        String baseUsername = email.split("@")[0];
-        String username = baseUsername;
-        int counter = 1;
-        while (userRepository.existsByUsername(username)) {
-            username = baseUsername + counter;
-            counter++;
-        }
+        // username 생성: 이메일의 @ 앞부분 사용, 중복이면 숫자 추가
+        String username = identifierAllocator.allocateUsername(email.split("@")[0]);
 
         // nickname 생성: 이름 사용, 중복이면 숫자 추가
-        String baseNickname = name != null && !name.isEmpty() ? name : username;
-        String nickname = baseNickname;
-        counter = 1;
-        while (userRepository.existsByNickname(nickname)) {
-            nickname = baseNickname + counter;
-            counter++;
-        }
+        String nickname = identifierAllocator.allocateNickname(name != null && !name.isEmpty() ? name : username);
 
         User user = User.builder()
                 .username(username)
@@ -119,13 +114,23 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         log.info("Registering new OAuth2 user: email={}, username={}, nickname={}, provider={}",
                 email, username, nickname, oAuth2UserRequest.getClientRegistration().getRegistrationId());
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        identityIndex.addUser(savedUser.getUsername(), savedUser.getNickname(), savedUser.getEmail());
+        return savedUser;
     }
 
     private User updateExistingUser(User existingUser, OAuth2UserInfo oAuth2UserInfo) {
+        // DB와 같으면 쓰기를 생략하고(대기 중인 이전 값은 이 값으로 덮어씀), 다르면 비동기 배치로 반영
+        if (Objects.equals(existingUser.getName(), oAuth2UserInfo.getName())
+                && Objects.equals(existingUser.getProfileImage(), oAuth2UserInfo.getImageUrl())) {
+            profileRefreshBatcher.recordUnchanged(existingUser.getId(), existingUser.getName(), existingUser.getProfileImage());
+            return existingUser;
+        }
+
         existingUser.setName(oAuth2UserInfo.getName());
         existingUser.setProfileImage(oAuth2UserInfo.getImageUrl());
+        profileRefreshBatcher.enqueue(existingUser.getId(), existingUser.getName(), existingUser.getProfileImage());
 
-        return userRepository.save(existingUser);
+        return existingUser;
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.example.order_service.security;
 
 import com.example.order_service.util.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,6 +26,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
@@ -40,11 +42,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request);
 
             if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String userEmail = tokenProvider.getUserEmailFromToken(jwt);
+                Claims claims = tokenProvider.getClaimsFromToken(jwt);
+
+                // 리프레시 토큰은 API 인증에 사용할 수 없음
+                if (tokenProvider.isRefreshToken(claims)) {
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                String userEmail = claims.getSubject();
 
                 UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
 
-                if (userDetails != null) {
+                if (userDetails != null && !isRevoked(claims, userDetails)) {
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -59,6 +69,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private boolean isRevoked(Claims claims, UserDetails userDetails) {
+        Long userId = userDetails instanceof CustomUserDetailsService.UserPrincipal principal ? principal.getId() : null;
+        boolean revoked = tokenRevocationService.isRevoked(claims.getId(), userId, claims.getIssuedAt().getTime());
+        if (revoked) {
+            log.debug("Rejected revoked access token: jti={}, userId={}", claims.getId(), userId);
+        }
+        return revoked;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -0,0 +1,90 @@
+package com.example.order_service.security;
+
+import com.example.order_service.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 아이디별/IP별 로그인 시도 횟수를 Redis sorted set 기반 슬라이딩 윈도우로 제한한다.
+ * Redis 장애 시에는 로그인을 막지 않도록 허용(fail-open)한다.
+ * IP는 프록시가 전달한 클라이언트 IP(server.forward-headers-strategy)여야 하며, 프록시 IP로 세면 사이트 전체 한도가 된다.
+ */
+@Component
+@Slf4j
+public class LoginRateLimiter {
+
+    private static final String USERNAME_KEY_PREFIX = "auth:rl:user:";
+    private static final String IP_KEY_PREFIX = "auth:rl:ip:";
+
+    // KEYS[1]=윈도우 키, ARGV[1]=현재 시각(ms), ARGV[2]=윈도우 길이(ms), ARGV[3]=허용 횟수, ARGV[4]=멤버
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local window = tonumber(ARGV[2]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - window) " +
+            "if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then return 0 end " +
+            "redis.call('ZADD', KEYS[1], now, ARGV[4]) " +
+            "redis.call('PEXPIRE', KEYS[1], window) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int usernameLimit;
+    private final long usernameWindowMillis;
+    private final int ipLimit;
+    private final long ipWindowMillis;
+
+    public LoginRateLimiter(StringRedisTemplate redisTemplate,
+                            @Value("${app.auth.login-limit.username.max-attempts:10}") int usernameLimit,
+                            @Value("${app.auth.login-limit.username.window-msec:300000}") long usernameWindowMillis,
+                            @Value("${app.auth.login-limit.ip.max-attempts:50}") int ipLimit,
+                            @Value("${app.auth.login-limit.ip.window-msec:60000}") long ipWindowMillis) {
+        this.redisTemplate = redisTemplate;
+        this.usernameLimit = usernameLimit;
+        this.usernameWindowMillis = usernameWindowMillis;
+        this.ipLimit = ipLimit;
+        this.ipWindowMillis = ipWindowMillis;
+    }
+
+    public void acquire(String username, String clientIp) {
+        if (clientIp != null && !tryAcquire(IP_KEY_PREFIX + clientIp, ipLimit, ipWindowMillis)) {
+            log.warn("Login rate limit exceeded for ip: {}", clientIp);
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", ipWindowMillis / 1000);
+        }
+        if (username != null && !tryAcquire(usernameKey(username), usernameLimit, usernameWindowMillis)) {
+            log.warn("Login rate limit exceeded for username: {}", username);
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", usernameWindowMillis / 1000);
+        }
+    }
+
+    public void reset(String username) {
+        try {
+            redisTemplate.delete(usernameKey(username));
+        } catch (Exception e) {
+            log.warn("Failed to reset login rate limit for username {}: {}", username, e.getMessage());
+        }
+    }
+
+    private boolean tryAcquire(String key, int limit, long windowMillis) {
+        try {
+            Long allowed = redisTemplate.execute(SLIDING_WINDOW_SCRIPT, List.of(key),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(windowMillis),
+                    String.valueOf(limit), UUID.randomUUID().toString());
+            return allowed == null || allowed == 1L;
+        } catch (Exception e) {
+            log.warn("Login rate limiter unavailable, allowing request: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private String usernameKey(String username) {
+        return USERNAME_KEY_PREFIX + username.toLowerCase(Locale.ROOT);
+    }
+}
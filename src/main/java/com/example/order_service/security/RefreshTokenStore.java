@@ -0,0 +1,99 @@
+package com.example.order_service.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis에 리프레시 토큰 패밀리를 저장한다.
+ * 패밀리마다 현재 유효한 토큰 ID 하나만 보관하므로 회전/폐기는 모두 키 하나에 대한 O(1) 연산이다.
+ * 이미 회전된 토큰이 다시 제출되면 탈취로 간주하고 패밀리 전체를 폐기한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenStore {
+
+    private static final String FAMILY_KEY_PREFIX = "auth:rt:family:";
+    private static final String USER_FAMILIES_KEY_PREFIX = "auth:rt:user:";
+
+    // KEYS[1]=패밀리 키, ARGV[1]=제출된 토큰 ID, ARGV[2]=새 토큰 ID, ARGV[3]=TTL(ms),
+    // ARGV[4]=사용자별 패밀리 목록 키 접두사, ARGV[5]=패밀리 ID
+    // 1: 회전 성공, 0: 패밀리 없음(만료/폐기), -1: 재사용 감지(패밀리 삭제)
+    // 사용자별 패밀리 목록도 패밀리보다 먼저 만료되지 않도록 함께 연장해야 전체 로그아웃이 회전 중인 패밀리를 놓치지 않음.
+    // 목록 키는 패밀리에 저장된 userId로 만들므로 KEYS로 넘기지 않음 (단일 Redis/Sentinel 구성 전제)
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], 'current') " +
+            "if not current then return 0 end " +
+            "if current ~= ARGV[1] then redis.call('DEL', KEYS[1]) return -1 end " +
+            "redis.call('HSET', KEYS[1], 'current', ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "local userId = redis.call('HGET', KEYS[1], 'userId') " +
+            "if userId then " +
+            "  local userKey = ARGV[4] .. userId " +
+            "  redis.call('SADD', userKey, ARGV[5]) " +
+            "  if redis.call('PTTL', userKey) < tonumber(ARGV[3]) then redis.call('PEXPIRE', userKey, ARGV[3]) end " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public enum RotationResult {
+        ROTATED, UNKNOWN, REUSED
+    }
+
+    public void createFamily(String familyId, String tokenId, Long userId, Duration ttl) {
+        String familyKey = FAMILY_KEY_PREFIX + familyId;
+        String userKey = USER_FAMILIES_KEY_PREFIX + userId;
+
+        redisTemplate.opsForHash().putAll(familyKey, Map.of(
+                "current", tokenId,
+                "userId", String.valueOf(userId)
+        ));
+        redisTemplate.expire(familyKey, ttl);
+
+        redisTemplate.opsForSet().add(userKey, familyId);
+        redisTemplate.expire(userKey, ttl);
+    }
+
+    public RotationResult rotate(String familyId, String presentedTokenId, String newTokenId, Duration ttl) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(FAMILY_KEY_PREFIX + familyId),
+                presentedTokenId, newTokenId, String.valueOf(ttl.toMillis()), USER_FAMILIES_KEY_PREFIX, familyId);
+
+        if (result == null || result == 0L) {
+            return RotationResult.UNKNOWN;
+        }
+        if (result < 0) {
+            log.warn("Refresh token reuse detected, family revoked: familyId={}", familyId);
+            return RotationResult.REUSED;
+        }
+        return RotationResult.ROTATED;
+    }
+
+    public void revokeFamily(String familyId) {
+        redisTemplate.delete(FAMILY_KEY_PREFIX + familyId);
+    }
+
+    public void revokeAllFamilies(Long userId) {
+        String userKey = USER_FAMILIES_KEY_PREFIX + userId;
+        Set<String> familyIds = redisTemplate.opsForSet().members(userKey);
+
+        if (familyIds != null && !familyIds.isEmpty()) {
+            redisTemplate.delete(familyIds.stream().map(id -> FAMILY_KEY_PREFIX + id).toList());
+        }
+        redisTemplate.delete(userKey);
+
+        log.info("All refresh token families revoked: userId={}, families={}",
+                userId, familyIds != null ? familyIds.size() : 0);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.order_service.security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 폐기 목록.
+ * 원본은 Redis에 TTL과 함께 저장하고, 각 노드는 pub/sub으로 전달받은 폐기 정보를 로컬 니어 캐시에 보관한다.
+ * 요청마다 호출되는 isRevoked()는 로컬 맵 조회만 하므로 Redis 왕복이 없다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService implements MessageListener {
+
+    public static final String CHANNEL = "auth:revocations";
+
+    private static final String REVOKED_TOKEN_KEY_PREFIX = "auth:revoked:";
+    private static final String NOT_BEFORE_KEY_PREFIX = "auth:nbf:";
+    private static final String TYPE_TOKEN = "jti";
+    private static final String TYPE_USER = "uid";
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 토큰 ID -> 토큰 만료 시각(ms)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    // 사용자 ID -> 이 시각(ms) 이전에 발급된 토큰은 모두 무효
+    private final Map<Long, NotBefore> notBeforeByUser = new ConcurrentHashMap<>();
+
+    private record NotBefore(long issuedBeforeMillis, long expiresAtMillis) {
+    }
+
+    @PostConstruct
+    public void preload() {
+        try {
+            scan(REVOKED_TOKEN_KEY_PREFIX, (key, value, expiresAt) ->
+                    revokedTokens.put(key.substring(REVOKED_TOKEN_KEY_PREFIX.length()), expiresAt));
+            scan(NOT_BEFORE_KEY_PREFIX, (key, value, expiresAt) ->
+                    notBeforeByUser.put(Long.valueOf(key.substring(NOT_BEFORE_KEY_PREFIX.length())),
+                            new NotBefore(Long.parseLong(value), expiresAt)));
+            log.info("Token revocation cache preloaded: tokens={}, users={}", revokedTokens.size(), notBeforeByUser.size());
+        } catch (Exception e) {
+            log.warn("Failed to preload token revocation cache from Redis: {}", e.getMessage());
+        }
+    }
+
+    public void revokeToken(String tokenId, long expiresAtMillis) {
+        long ttl = expiresAtMillis - System.currentTimeMillis();
+        if (tokenId == null || ttl <= 0) {
+            return;
+        }
+
+        redisTemplate.opsForValue().set(REVOKED_TOKEN_KEY_PREFIX + tokenId, "1", Duration.ofMillis(ttl));
+        revokedTokens.put(tokenId, expiresAtMillis);
+        redisTemplate.convertAndSend(CHANNEL, TYPE_TOKEN + " " + expiresAtMillis + " " + tokenId);
+    }
+
+    /**
+     * 지정 시각 이전에 발급된 사용자의 모든 액세스 토큰을 무효화한다.
+     * JWT의 iat는 초 단위이므로 같은 초에 발급된 토큰도 함께 무효화된다.
+     */
+    public void revokeAllIssuedBefore(Long userId, long issuedBeforeMillis, Duration accessTokenLifetime) {
+        long notBefore = issuedBeforeMillis / 1000 * 1000;
+        long expiresAtMillis = System.currentTimeMillis() + accessTokenLifetime.toMillis();
+
+        redisTemplate.opsForValue().set(NOT_BEFORE_KEY_PREFIX + userId, String.valueOf(notBefore), accessTokenLifetime);
+        notBeforeByUser.put(userId, new NotBefore(notBefore, expiresAtMillis));
+        redisTemplate.convertAndSend(CHANNEL, TYPE_USER + " " + expiresAtMillis + " " + userId + ":" + notBefore);
+    }
+
+    public boolean isRevoked(String tokenId, Long userId, long issuedAtMillis) {
+        if (tokenId != null && revokedTokens.containsKey(tokenId)) {
+            return true;
+        }
+        if (userId != null) {
+            NotBefore notBefore = notBeforeByUser.get(userId);
+            return notBefore != null && issuedAtMillis <= notBefore.issuedBeforeMillis();
+        }
+        return false;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(" ", 3);
+        if (parts.length != 3) {
+            return;
+        }
+
+        long expiresAtMillis = Long.parseLong(parts[1]);
+        if (TYPE_TOKEN.equals(parts[0])) {
+            revokedTokens.put(parts[2], expiresAtMillis);
+        } else if (TYPE_USER.equals(parts[0])) {
+            String[] userAndTime = parts[2].split(":", 2);
+            notBeforeByUser.put(Long.valueOf(userAndTime[0]),
+                    new NotBefore(Long.parseLong(userAndTime[1]), expiresAtMillis));
+        }
+
+        evictExpired();
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+        notBeforeByUser.values().removeIf(entry -> entry.expiresAtMillis() < now);
+    }
+
+    @FunctionalInterface
+    private interface ScanEntryConsumer {
+        void accept(String key, String value, long expiresAtMillis);
+    }
+
+    private void scan(String prefix, ScanEntryConsumer consumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                String value = redisTemplate.opsForValue().get(key);
+                Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (value != null && ttl != null && ttl > 0) {
+                    consumer.accept(key, value, System.currentTimeMillis() + ttl);
+                }
+            }
+        }
+    }
+}
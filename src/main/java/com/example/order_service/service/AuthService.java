@@ -8,7 +8,12 @@ import com.example.order_service.entity.EmailVerification;
 import com.example.order_service.entity.User;
 import com.example.order_service.repository.EmailVerificationRepository;
 import com.example.order_service.repository.UserRepository;
+import com.example.order_service.security.LoginRateLimiter;
+import com.example.order_service.security.PasswordHashingExecutor;
+import com.example.order_service.security.RefreshTokenStore;
+import com.example.order_service.security.TokenRevocationService;
 import com.example.order_service.util.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,7 +23,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -32,6 +39,11 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final EmailService emailService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationService tokenRevocationService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginRateLimiter loginRateLimiter;
+    private final IdentityIndex identityIndex;
 
     public AuthResponse signUp(SignUpRequest signUpRequest) {
         // 이메일이 입력된 경우에만 중복 체크
@@ -59,10 +71,12 @@ public class AuthService {
             emailVerified = true;
         }
 
+        String encodedPassword = passwordHashingExecutor.execute(() -> passwordEncoder.encode(signUpRequest.getPassword()));
+
         User user = User.builder()
                 .email(signUpRequest.getEmail())
                 .username(signUpRequest.getUsername())
-                .password(passwordEncoder.encode(signUpRequest.getPassword()))
+                .password(encodedPassword)
                 .name(signUpRequest.getName())
                 .nickname(signUpRequest.getNickname())
                 .role(signUpRequest.getRole() != null ? signUpRequest.getRole() : User.Role.USER)
@@ -73,24 +87,18 @@ public class AuthService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        identityIndex.addUser(savedUser.getUsername(), savedUser.getNickname(), savedUser.getEmail());
 
-        // 이메일 인증을 완료한 경우 verification을 used로 표시
+        // 이메일 인증을 완료한 경우 인증번호를 사용됨으로 처리
         if (emailVerified) {
-            EmailVerification verification = emailVerificationRepository
-                    .findByEmailAndVerificationCodeAndIsUsedFalse(savedUser.getEmail(), signUpRequest.getVerificationCode())
-                    .orElse(null);
-
-            if (verification != null) {
-                verification.setIsUsed(true);
-                emailVerificationRepository.save(verification);
-            }
+            emailService.consumeVerificationCode(savedUser.getEmail(), signUpRequest.getVerificationCode());
         }
 
         // Generate tokens for immediate login
         // 이메일이 없는 경우 username 사용
         String identifier = savedUser.getEmail() != null ? savedUser.getEmail() : savedUser.getUsername();
         String accessToken = jwtTokenProvider.generateAccessToken(identifier);
-        String refreshToken = jwtTokenProvider.generateRefreshToken(identifier);
+        String refreshToken = issueRefreshToken(savedUser, identifier);
 
         return AuthResponse.builder()
                 .accessToken(accessToken)
@@ -108,7 +116,9 @@ public class AuthService {
                 .build();
     }
 
-    public AuthResponse login(LoginRequest loginRequest) {
+    public AuthResponse login(LoginRequest loginRequest, String clientIp) {
+        loginRateLimiter.acquire(loginRequest.getUsername(), clientIp);
+
         User user = userRepository.findByUsername(loginRequest.getUsername())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
@@ -117,15 +127,17 @@ public class AuthService {
             throw new RuntimeException("비활성화된 계정입니다.");
         }
 
-        Authentication authentication = authenticationManager.authenticate(
+        // BCrypt 검증은 전용 풀에서 수행 (요청 스레드 점유 방지)
+        Authentication authentication = passwordHashingExecutor.execute(() -> authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         loginRequest.getUsername(),
                         loginRequest.getPassword()
                 )
-        );
+        ));
+        loginRateLimiter.reset(loginRequest.getUsername());
 
         String accessToken = jwtTokenProvider.generateAccessToken(authentication);
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail());
+        String refreshToken = issueRefreshToken(user, user.getEmail());
 
         return AuthResponse.builder()
                 .accessToken(accessToken)
@@ -147,12 +159,30 @@ public class AuthService {
             throw new RuntimeException("유효하지 않은 리프레시 토큰입니다.");
         }
 
-        String email = jwtTokenProvider.getUserEmailFromToken(refreshToken);
+        Claims claims = jwtTokenProvider.getClaimsFromToken(refreshToken);
+        String familyId = claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class);
+        if (!jwtTokenProvider.isRefreshToken(claims) || familyId == null) {
+            throw new RuntimeException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        // 패밀리의 현재 토큰과 일치할 때만 회전, 이미 사용된 토큰이면 패밀리 전체 폐기
+        String newTokenId = UUID.randomUUID().toString();
+        RefreshTokenStore.RotationResult rotation = refreshTokenStore.rotate(
+                familyId, claims.getId(), newTokenId, refreshTokenTtl());
+
+        if (rotation == RefreshTokenStore.RotationResult.REUSED) {
+            throw new RuntimeException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+        if (rotation == RefreshTokenStore.RotationResult.UNKNOWN) {
+            throw new RuntimeException("만료되었거나 폐기된 리프레시 토큰입니다.");
+        }
+
+        String email = claims.getSubject();
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
         String newAccessToken = jwtTokenProvider.generateAccessToken(email);
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(email);
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(email, familyId, newTokenId);
 
         return AuthResponse.builder()
                 .accessToken(newAccessToken)
@@ -196,7 +226,7 @@ public class AuthService {
 
         // JWT 토큰 생성
         String accessToken = jwtTokenProvider.generateAccessToken(savedUser.getEmail());
-        String refreshToken = jwtTokenProvider.generateRefreshToken(savedUser.getEmail());
+        String refreshToken = issueRefreshToken(savedUser, savedUser.getEmail());
 
         return AuthResponse.builder()
                 .accessToken(accessToken)
@@ -241,7 +271,7 @@ public class AuthService {
 
         // Generate tokens for immediate login
         String accessToken = jwtTokenProvider.generateAccessToken(user.getEmail());
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail());
+        String refreshToken = issueRefreshToken(user, user.getEmail());
 
         log.info("Email verified successfully for user: {}", user.getEmail());
 
@@ -273,15 +303,59 @@ public class AuthService {
         log.info("Verification email resent to: {}", email);
     }
 
+    public void logout(String accessToken, String refreshToken) {
+        if (refreshToken != null && jwtTokenProvider.validateToken(refreshToken)) {
+            Claims claims = jwtTokenProvider.getClaimsFromToken(refreshToken);
+            String familyId = claims.get(JwtTokenProvider.FAMILY_CLAIM, String.class);
+            if (jwtTokenProvider.isRefreshToken(claims) && familyId != null) {
+                refreshTokenStore.revokeFamily(familyId);
+            }
+        }
+
+        if (accessToken != null && jwtTokenProvider.validateToken(accessToken)) {
+            Claims claims = jwtTokenProvider.getClaimsFromToken(accessToken);
+            tokenRevocationService.revokeToken(claims.getId(), claims.getExpiration().getTime());
+        }
+    }
+
+    public void logoutEverywhere(String accessToken) {
+        if (accessToken == null || !jwtTokenProvider.validateToken(accessToken)) {
+            throw new RuntimeException("유효하지 않은 토큰입니다.");
+        }
+
+        String identifier = jwtTokenProvider.getUserEmailFromToken(accessToken);
+        User user = (identifier.contains("@")
+                ? userRepository.findByEmail(identifier)
+                : userRepository.findByUsername(identifier))
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        refreshTokenStore.revokeAllFamilies(user.getId());
+        tokenRevocationService.revokeAllIssuedBefore(user.getId(), System.currentTimeMillis(),
+                Duration.ofMillis(jwtTokenProvider.getAccessExpiration()));
+
+        log.info("Logged out from all devices: userId={}", user.getId());
+    }
+
     public boolean isEmailExists(String email) {
-        return userRepository.existsByEmail(email);
+        return identityIndex.exists(IdentityIndex.Field.EMAIL, email);
     }
 
     public boolean isUsernameExists(String username) {
-        return userRepository.existsByUsername(username);
+        return identityIndex.exists(IdentityIndex.Field.USERNAME, username);
     }
 
     public boolean isNicknameExists(String nickname) {
-        return userRepository.existsByNickname(nickname);
+        return identityIndex.exists(IdentityIndex.Field.NICKNAME, nickname);
+    }
+
+    private String issueRefreshToken(User user, String subject) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        refreshTokenStore.createFamily(familyId, tokenId, user.getId(), refreshTokenTtl());
+        return jwtTokenProvider.generateRefreshToken(subject, familyId, tokenId);
+    }
+
+    private Duration refreshTokenTtl() {
+        return Duration.ofMillis(jwtTokenProvider.getRefreshExpiration());
     }
-}
\ No newline at end of file
+}
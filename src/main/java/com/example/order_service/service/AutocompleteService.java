@@ -0,0 +1,149 @@
+package com.example.order_service.service;
+
+import com.example.order_service.event.ProductChangedEvent;
+import com.example.order_service.repository.OrderItemRepository;
+import com.example.order_service.repository.ProductRepository;
+import com.example.order_service.util.PrefixIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상품명/카테고리 자동완성.
+ * 판매량을 가중치로 한 불변 PrefixIndex를 별도 스레드에서 만들고 참조를 통째로 교체하므로,
+ * 요청 스레드는 잠금이나 DB 조회 없이 현재 인덱스만 읽는다.
+ */
+@Component
+@Slf4j
+public class AutocompleteService implements DisposableBean {
+
+    public static final String TYPE_PRODUCT = "product";
+    public static final String TYPE_CATEGORY = "category";
+
+    private static final int BUILD_BATCH_SIZE = 5000;
+
+    private final ProductRepository productRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ExecutorService rebuildExecutor;
+
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean(false);
+    private volatile boolean dirty;
+    private volatile PrefixIndex index = PrefixIndex.empty();
+    private volatile long indexBytes;
+
+    public AutocompleteService(ProductRepository productRepository,
+                               OrderItemRepository orderItemRepository,
+                               MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "autocomplete-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gauge("catalog.suggest.entries", this, service -> service.index.size());
+        meterRegistry.gauge("catalog.suggest.memory.bytes", this, service -> service.indexBytes);
+    }
+
+    public List<PrefixIndex.Suggestion> suggest(String prefix, int limit) {
+        return index.lookup(prefix, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        requestRebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        dirty = true;
+    }
+
+    // 상품 변경은 모아서 주기적으로 한 번에 반영하고, 판매량 변화는 긴 주기로 반영
+    @Scheduled(fixedDelayString = "${app.suggest.rebuild-interval-msec:60000}")
+    public void rebuildIfDirty() {
+        if (dirty) {
+            requestRebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.suggest.full-rebuild-interval-msec:3600000}",
+            initialDelayString = "${app.suggest.full-rebuild-interval-msec:3600000}")
+    public void scheduledRebuild() {
+        requestRebuild();
+    }
+
+    public void requestRebuild() {
+        if (!rebuildRunning.compareAndSet(false, true)) {
+            return;
+        }
+        dirty = false;
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                dirty = true;
+                log.error("Autocomplete index rebuild failed", e);
+            } finally {
+                rebuildRunning.set(false);
+            }
+        });
+    }
+
+    private void rebuild() {
+        long startTime = System.currentTimeMillis();
+
+        Map<Long, Long> unitsSold = new HashMap<>();
+        for (Object[] row : orderItemRepository.sumQuantityByProduct()) {
+            unitsSold.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        // 판매 이력이 없는 상품도 노출되도록 가중치는 판매량 + 1
+        PrefixIndex.Builder builder = new PrefixIndex.Builder();
+        Map<String, Long> categoryWeights = new HashMap<>();
+        Long lastId = 0L;
+        List<Object[]> batch;
+        do {
+            batch = productRepository.findSuggestionSourcesAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            for (Object[] row : batch) {
+                Long productId = (Long) row[0];
+                String name = (String) row[1];
+                String category = (String) row[2];
+                long weight = unitsSold.getOrDefault(productId, 0L) + 1;
+
+                builder.add(name, TYPE_PRODUCT, weight);
+                if (category != null && !category.isBlank()) {
+                    categoryWeights.merge(category, weight, Long::sum);
+                }
+                lastId = productId;
+            }
+        } while (batch.size() == BUILD_BATCH_SIZE);
+        categoryWeights.forEach((category, weight) -> builder.add(category, TYPE_CATEGORY, weight));
+
+        PrefixIndex next = builder.build();
+        long bytes = next.estimatedBytes();
+        this.index = next;
+        this.indexBytes = bytes;
+        log.info("Autocomplete index rebuilt: entries={}, categories={}, memory={}KB, took={}ms",
+                next.size(), categoryWeights.size(), bytes / 1024, System.currentTimeMillis() - startTime);
+    }
+
+    @Override
+    public void destroy() {
+        rebuildExecutor.shutdownNow();
+    }
+}
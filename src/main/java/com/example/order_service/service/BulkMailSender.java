@@ -0,0 +1,226 @@
+package com.example.order_service.service;
+
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 알림 메일 발송기.
+ * 인증을 마친 SMTP 연결을 풀에 보관해 연결 하나로 여러 메시지를 보내고(STARTTLS/AUTH 반복 제거),
+ * 풀 크기로 SMTP 서버에 대한 동시 연결 수를, 수신 도메인별 세마포어로 메일 사업자별 동시 전송 수를 제한한다.
+ */
+@Component
+@Slf4j
+public class BulkMailSender implements DisposableBean {
+
+    private final JavaMailSender mailSender;
+    private final BlockingQueue<PooledTransport> pool;
+    private final ExecutorService executor;
+    private final Map<String, Semaphore> domainPermits = new ConcurrentHashMap<>();
+
+    @Value("${app.mail.from:noreply@orderservice.com}")
+    private String fromEmail;
+
+    @Value("${app.mail.bulk.chunk-size:50}")
+    private int chunkSize;
+
+    @Value("${app.mail.bulk.messages-per-connection:500}")
+    private int messagesPerConnection;
+
+    @Value("${app.mail.bulk.max-concurrency-per-domain:2}")
+    private int maxConcurrencyPerDomain;
+
+    public record OutgoingMessage(String to, String subject, String body) {
+    }
+
+    public record BulkResult(int sent, List<String> failedRecipients) {
+    }
+
+    // 작업이 예외로 끝나면 어느 수신자까지 보냈는지 알 수 없으므로 chunk 전체를 실패로 보고하기 위해 함께 보관
+    private record SubmittedChunk(List<OutgoingMessage> messages, Future<List<String>> future) {
+    }
+
+    private static class PooledTransport {
+        private Transport transport;
+        private int sentCount;
+    }
+
+    public BulkMailSender(JavaMailSender mailSender,
+                          @Value("${app.mail.bulk.connections:4}") int connections) {
+        this.mailSender = mailSender;
+        this.pool = new ArrayBlockingQueue<>(connections);
+        for (int i = 0; i < connections; i++) {
+            pool.add(new PooledTransport());
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(connections, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-mail-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public BulkResult sendAll(List<OutgoingMessage> messages) {
+        long startTime = System.currentTimeMillis();
+
+        // 수신 도메인별로 묶은 뒤 chunk 단위로 작업 분할
+        Map<String, List<OutgoingMessage>> byDomain = new LinkedHashMap<>();
+        for (OutgoingMessage message : messages) {
+            byDomain.computeIfAbsent(domainOf(message.to()), d -> new ArrayList<>()).add(message);
+        }
+
+        List<SubmittedChunk> chunks = new ArrayList<>();
+        byDomain.forEach((domain, domainMessages) -> {
+            for (int from = 0; from < domainMessages.size(); from += chunkSize) {
+                List<OutgoingMessage> chunk = domainMessages.subList(from, Math.min(from + chunkSize, domainMessages.size()));
+                chunks.add(new SubmittedChunk(chunk, executor.submit(() -> sendChunk(domain, chunk))));
+            }
+        });
+
+        List<String> failed = new ArrayList<>();
+        for (SubmittedChunk chunk : chunks) {
+            try {
+                failed.addAll(chunk.future().get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("대량 메일 발송이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                log.error("Bulk mail chunk failed: recipients={}", chunk.messages().size(), e.getCause());
+                chunk.messages().forEach(message -> failed.add(message.to()));
+            }
+        }
+
+        int sent = messages.size() - failed.size();
+        log.info("Bulk mail finished: total={}, sent={}, failed={}, took={}ms",
+                messages.size(), sent, failed.size(), System.currentTimeMillis() - startTime);
+        return new BulkResult(sent, Collections.unmodifiableList(failed));
+    }
+
+    private List<String> sendChunk(String domain, List<OutgoingMessage> chunk) throws InterruptedException {
+        if (!(mailSender instanceof JavaMailSenderImpl senderImpl)) {
+            return sendWithoutPool(chunk);
+        }
+
+        Semaphore permits = domainPermits.computeIfAbsent(domain, d -> new Semaphore(maxConcurrencyPerDomain));
+        permits.acquire();
+        PooledTransport pooled = pool.take();
+        try {
+            List<String> failed = new ArrayList<>();
+            for (OutgoingMessage message : chunk) {
+                if (!sendPooled(senderImpl, pooled, message)) {
+                    failed.add(message.to());
+                }
+            }
+            return failed;
+        } finally {
+            pool.put(pooled);
+            permits.release();
+        }
+    }
+
+    private boolean sendPooled(JavaMailSenderImpl senderImpl, PooledTransport pooled, OutgoingMessage message) {
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            try {
+                ensureConnected(senderImpl, pooled);
+                MimeMessage mimeMessage = toMimeMessage(senderImpl.getSession(), message);
+                pooled.transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+                pooled.sentCount++;
+                return true;
+            } catch (MessagingException e) {
+                // 연결이 끊겼을 수 있으므로 닫고 한 번 더 시도
+                close(pooled);
+                if (attempt == 2) {
+                    log.warn("Failed to send bulk mail to {}: {}", message.to(), e.getMessage());
+                }
+            }
+        }
+        return false;
+    }
+
+    private void ensureConnected(JavaMailSenderImpl senderImpl, PooledTransport pooled) throws MessagingException {
+        if (pooled.transport != null && pooled.sentCount >= messagesPerConnection) {
+            close(pooled);
+        }
+        if (pooled.transport == null || !pooled.transport.isConnected()) {
+            Transport transport = senderImpl.getSession().getTransport(senderImpl.getProtocol());
+            transport.connect(senderImpl.getHost(), senderImpl.getPort(), senderImpl.getUsername(), senderImpl.getPassword());
+            pooled.transport = transport;
+            pooled.sentCount = 0;
+        }
+    }
+
+    private MimeMessage toMimeMessage(Session session, OutgoingMessage message) throws MessagingException {
+        MimeMessage mimeMessage = new MimeMessage(session);
+        mimeMessage.setFrom(new InternetAddress(fromEmail));
+        mimeMessage.setRecipient(Message.RecipientType.TO, new InternetAddress(message.to()));
+        mimeMessage.setSubject(message.subject(), "UTF-8");
+        mimeMessage.setText(message.body(), "UTF-8");
+        return mimeMessage;
+    }
+
+    private List<String> sendWithoutPool(List<OutgoingMessage> chunk) {
+        List<String> failed = new ArrayList<>();
+        for (OutgoingMessage message : chunk) {
+            try {
+                SimpleMailMessage mail = new SimpleMailMessage();
+                mail.setFrom(fromEmail);
+                mail.setTo(message.to());
+                mail.setSubject(message.subject());
+                mail.setText(message.body());
+                mailSender.send(mail);
+            } catch (Exception e) {
+                failed.add(message.to());
+            }
+        }
+        return failed;
+    }
+
+    private void close(PooledTransport pooled) {
+        if (pooled.transport != null) {
+            try {
+                pooled.transport.close();
+            } catch (MessagingException ignored) {
+                // 이미 끊긴 연결
+            }
+            pooled.transport = null;
+        }
+    }
+
+    private static String domainOf(String email) {
+        int at = email.lastIndexOf('@');
+        return at >= 0 ? email.substring(at + 1).toLowerCase(Locale.ROOT) : "";
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+        pool.forEach(this::close);
+    }
+}
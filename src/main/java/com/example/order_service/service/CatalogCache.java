@@ -0,0 +1,362 @@
+package com.example.order_service.service;
+
+import com.example.order_service.repository.ProductRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 공개 카탈로그 API용 2단계 캐시 (노드 로컬 메모리 -> 공유 Redis -> DB).
+ * 상품이 변경되면 Redis의 카탈로그 세대 번호를 올려 기존 Redis 키를 모두 무효화하고,
+ * ProductChangeRelay가 변경 메시지에 새 세대를 실어 보내면 다른 노드는 파생 인덱스를 갱신한 뒤 그 세대를 적용한다.
+ * 로컬 항목도 세대 번호를 함께 저장해 다른 세대의 값은 쓰지 않는다.
+ * 같은 키의 동시 미스는 한 요청만 Redis/DB를 읽고 나머지는 그 결과를 기다린다. TTL에는 지터를 더해 동시 만료를 피한다.
+ * 세대 번호와 마지막 변경 시각은 카탈로그 응답의 ETag/Last-Modified로도 쓰인다.
+ * Redis 장애로 세대를 올리지 못하면 노드 로컬 카운터를 올려 이 노드의 ETag와 응답 바이트 캐시는 바뀌게 한다.
+ */
+@Component
+@Slf4j
+public class CatalogCache {
+
+    private static final String GENERATION_KEY = "catalog:generation";
+    private static final String LAST_MODIFIED_KEY = "catalog:last-modified";
+    private static final String KEY_PREFIX = "catalog:";
+
+    // KEYS[1]=세대 키, KEYS[2]=마지막 변경 시각 키, ARGV[1]=변경 시각(ms)
+    // 세대를 올리고, 마지막 변경 시각은 더 클 때만 바꿔 노드 간 시계 차이로 뒤로 가지 않게 함. {세대, 마지막 변경 시각} 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> BUMP_SCRIPT = new DefaultRedisScript<>(
+            "local generation = redis.call('INCR', KEYS[1]) " +
+            "local current = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+            "local changedAt = tonumber(ARGV[1]) " +
+            "if changedAt > current then redis.call('SET', KEYS[2], ARGV[1]) current = changedAt end " +
+            "return {generation, current}",
+            List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductRepository productRepository;
+    private final Map<String, LocalEntry> localCache = new ConcurrentHashMap<>();
+    // "세대:키" -> 진행 중인 로딩. 같은 키의 동시 미스를 하나로 합침
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    @Value("${app.catalog.cache.local-ttl-msec:10000}")
+    private long localTtlMillis;
+
+    @Value("${app.catalog.cache.redis-ttl-msec:300000}")
+    private long redisTtlMillis;
+
+    @Value("${app.catalog.cache.local-max-entries:10000}")
+    private int localMaxEntries;
+
+    private volatile long generation;
+    private volatile long lastModifiedMillis;
+    // Redis에 세대를 올리지 못한 변경 횟수. 세대가 다시 오르면 0으로 돌아감
+    private final AtomicLong localBumps = new AtomicLong();
+
+    /**
+     * Redis에 올린 세대 번호와 그 시점의 마지막 변경 시각.
+     */
+    public record Version(long generation, long lastModifiedMillis) {
+    }
+
+    private record LocalEntry(Object value, long generation, long expiresAt) {
+
+        boolean isValid(long currentGeneration, long now) {
+            return generation == currentGeneration && expiresAt > now;
+        }
+    }
+
+    public CatalogCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                        ProductRepository productRepository, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.productRepository = productRepository;
+        this.localHits = meterRegistry.counter("catalog.cache.requests", "result", "local-hit");
+        this.redisHits = meterRegistry.counter("catalog.cache.requests", "result", "redis-hit");
+        this.misses = meterRegistry.counter("catalog.cache.requests", "result", "miss");
+        this.coalesced = meterRegistry.counter("catalog.cache.requests", "result", "coalesced");
+        meterRegistry.gauge("catalog.cache.hit.ratio", this, CatalogCache::hitRatio);
+        meterRegistry.gauge("catalog.cache.local.size", localCache, Map::size);
+    }
+
+    @PostConstruct
+    public void loadGeneration() {
+        try {
+            String value = redisTemplate.opsForValue().get(GENERATION_KEY);
+            this.generation = value != null ? Long.parseLong(value) : 0L;
+            String lastModified = redisTemplate.opsForValue().get(LAST_MODIFIED_KEY);
+            if (lastModified != null) {
+                this.lastModifiedMillis = Long.parseLong(lastModified);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read catalog cache generation from Redis: {}", e.getMessage());
+        }
+
+        // 변경 기록이 없으면 상품의 마지막 수정 시각에서 유도
+        if (lastModifiedMillis == 0L) {
+            LocalDateTime lastUpdatedAt = productRepository.findLastUpdatedAt();
+            this.lastModifiedMillis = lastUpdatedAt != null
+                    ? lastUpdatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                    : System.currentTimeMillis();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, TypeReference<T> type, Supplier<T> loader) {
+        // 세대 번호는 한 번만 읽어 조회와 저장에 같은 값을 씀. 로딩 중 세대가 바뀌면 그 값은 새 세대 캐시에 들어가지 않음
+        long currentGeneration = generation;
+        LocalEntry local = localCache.get(key);
+        if (local != null && local.isValid(currentGeneration, System.currentTimeMillis())) {
+            localHits.increment();
+            return (T) local.value();
+        }
+
+        String flightKey = currentGeneration + ":" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            coalesced.increment();
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            T value = load(key, type, loader, currentGeneration);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            // 기다리던 요청들도 같은 예외로 끝냄
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private <T> T load(String key, TypeReference<T> type, Supplier<T> loader, long loadGeneration) {
+        long now = System.currentTimeMillis();
+        String redisKey = KEY_PREFIX + loadGeneration + ":" + key;
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey);
+            if (json != null) {
+                T value = objectMapper.readValue(json, type);
+                putLocal(key, value, loadGeneration, now);
+                redisHits.increment();
+                return value;
+            }
+        } catch (Exception e) {
+            log.warn("Catalog cache read failed for {}: {}", key, e.getMessage());
+        }
+
+        misses.increment();
+        T value = loader.get();
+        if (value != null) {
+            putLocal(key, value, loadGeneration, now);
+            putRedis(redisKey, value);
+        }
+        return value;
+    }
+
+    /**
+     * 여러 키를 한 번에 조회한다. 로컬에 없는 키는 Redis MGET 한 번으로 읽고, 어느 계층에도 없는 키는 결과에서 빠진다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> getAll(List<String> keys, TypeReference<T> type) {
+        long now = System.currentTimeMillis();
+        long currentGeneration = generation;
+        Map<String, T> found = new HashMap<>();
+        List<String> remaining = new ArrayList<>();
+        for (String key : keys) {
+            LocalEntry local = localCache.get(key);
+            if (local != null && local.isValid(currentGeneration, now)) {
+                localHits.increment();
+                found.put(key, (T) local.value());
+            } else {
+                remaining.add(key);
+            }
+        }
+        if (remaining.isEmpty()) {
+            return found;
+        }
+
+        String prefix = KEY_PREFIX + currentGeneration + ":";
+        try {
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(remaining.stream().map(key -> prefix + key).toList());
+            for (int i = 0; i < remaining.size(); i++) {
+                String json = values != null ? values.get(i) : null;
+                if (json == null) {
+                    misses.increment();
+                    continue;
+                }
+                T value = objectMapper.readValue(json, type);
+                putLocal(remaining.get(i), value, currentGeneration, now);
+                found.put(remaining.get(i), value);
+                redisHits.increment();
+            }
+        } catch (Exception e) {
+            log.warn("Catalog cache multi-read failed: {}", e.getMessage());
+        }
+        return found;
+    }
+
+    /**
+     * 호출한 쪽이 직접 읽은 값을 캐시에 넣는다. loadGeneration은 값을 읽기 전에 getGeneration()으로 얻은 세대이며,
+     * 그 사이 세대가 바뀌었으면 이전 데이터일 수 있으므로 저장하지 않는다.
+     */
+    public void put(String key, Object value, long loadGeneration) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        putLocal(key, value, loadGeneration, System.currentTimeMillis());
+        putRedis(KEY_PREFIX + loadGeneration + ":" + key, value);
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * 현재 카탈로그 버전. 평소에는 세대 번호이고, Redis 장애 중 이 노드에서 변경이 있었으면 로컬 카운터가 붙는다.
+     */
+    public String version() {
+        long bumps = localBumps.get();
+        return bumps == 0 ? Long.toString(generation) : generation + "." + bumps;
+    }
+
+    public long getLastModifiedMillis() {
+        return lastModifiedMillis;
+    }
+
+    /**
+     * 현재 카탈로그 버전의 강한 ETag. 상품이 바뀌면 세대 번호(Redis 장애 중에는 로컬 카운터)가 올라가므로 값도 바뀐다.
+     */
+    public String etag() {
+        return "\"catalog-" + version() + "\"";
+    }
+
+    /**
+     * 이 노드에서 커밋된 상품 변경으로 세대 번호를 올리고 로컬 캐시를 비운다.
+     * 다른 노드에 알리는 일은 호출한 ProductChangeRelay가 반환된 버전을 변경 메시지에 실어 한다.
+     * Redis에 올리지 못하면 로컬 카운터만 올리고 null을 반환한다.
+     */
+    public Version bump() {
+        long now = System.currentTimeMillis();
+        Version bumped = null;
+        try {
+            List<?> result = redisTemplate.execute(BUMP_SCRIPT, List.of(GENERATION_KEY, LAST_MODIFIED_KEY),
+                    String.valueOf(now));
+            if (result == null || result.size() != 2) {
+                throw new IllegalStateException("unexpected bump result: " + result);
+            }
+            bumped = new Version(((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue());
+            advance(bumped.generation(), bumped.lastModifiedMillis());
+        } catch (Exception e) {
+            bumpLocal(now);
+            log.warn("Failed to bump catalog cache generation, using node-local version {}: {}", version(), e.getMessage());
+        }
+        localCache.clear();
+        return bumped;
+    }
+
+    /**
+     * 다른 노드의 변경 메시지에 실린 버전을 적용하고 로컬 캐시를 비운다.
+     * 그 노드가 세대를 올리지 못했으면(generation 0) 이 노드도 로컬 카운터를 올린다.
+     */
+    public void advanceTo(long generation, long lastModifiedMillis) {
+        if (generation > 0) {
+            advance(generation, lastModifiedMillis);
+        } else {
+            bumpLocal(lastModifiedMillis);
+        }
+        localCache.clear();
+    }
+
+    // 세대를 올리지 못해도 이 노드의 ETag와 응답 캐시는 바뀌어야 하므로 로컬 카운터를 올림
+    private synchronized void bumpLocal(long now) {
+        localBumps.incrementAndGet();
+        this.lastModifiedMillis = Math.max(lastModifiedMillis, now);
+    }
+
+    private synchronized void advance(long next, long lastModified) {
+        if (next > generation) {
+            this.generation = next;
+            localBumps.set(0);
+        }
+        this.lastModifiedMillis = Math.max(lastModifiedMillis, lastModified);
+    }
+
+    private void putLocal(String key, Object value, long entryGeneration, long now) {
+        // 로딩 중 세대가 바뀌었으면 새 세대로 채워진 항목을 덮어쓰지 않음
+        if (entryGeneration != generation) {
+            return;
+        }
+        if (localCache.size() >= localMaxEntries) {
+            evictLocal(now);
+        }
+        localCache.put(key, new LocalEntry(value, entryGeneration, now + withJitter(localTtlMillis)));
+    }
+
+    private void putRedis(String redisKey, Object value) {
+        try {
+            redisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(value),
+                    Duration.ofMillis(withJitter(redisTtlMillis)));
+        } catch (Exception e) {
+            log.warn("Catalog cache write failed for {}: {}", redisKey, e.getMessage());
+        }
+    }
+
+    private void evictLocal(long now) {
+        long currentGeneration = generation;
+        localCache.values().removeIf(entry -> !entry.isValid(currentGeneration, now));
+        // 만료 항목만으로 공간이 안 나면 임의 항목을 제거
+        Iterator<String> keys = localCache.keySet().iterator();
+        while (localCache.size() >= localMaxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    // TTL의 0~20%를 무작위로 더해 같은 시점에 채워진 항목들이 동시에 만료되지 않게 함
+    private static long withJitter(long ttlMillis) {
+        return ttlMillis + ThreadLocalRandom.current().nextLong(ttlMillis / 5 + 1);
+    }
+
+    private double hitRatio() {
+        double hits = localHits.count() + redisHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+}
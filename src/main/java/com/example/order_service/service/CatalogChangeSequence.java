@@ -0,0 +1,141 @@
+package com.example.order_service.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상품 변경 순번 기록기. 상품이 바뀐 트랜잭션 안에서 product_changes에 상품별 행을 REPLACE한다.
+ * 순번은 DB AUTO_INCREMENT가, 변경 시각은 DB 시계(NOW(6))가 정하므로 노드마다 시계가 달라도 순서가 어긋나지 않는다.
+ * JPA로 바뀐 상품은 트랜잭션마다 모아 커밋 직전(마지막 flush 이후)에 한 문장으로 기록한다.
+ * 순번은 커밋 직전에 발급되므로 커밋 순서와 거의 같지만 완전히 같지는 않아, 조회하는 쪽에서 최근 구간을 잠시 보류한다.
+ */
+@Component
+@Slf4j
+public class CatalogChangeSequence {
+
+    private static final int WRITE_BATCH_SIZE = 1000;
+    private static final int BACKFILL_BATCH_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CatalogChangeSequence(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 현재 JPA 트랜잭션이 커밋될 때 상품 변경을 기록하도록 예약한다. 엔티티 콜백에서 호출되며 DB 왕복은 트랜잭션당 한 번이다.
+     */
+    public void recordOnCommit(Long productId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(List.of(productId));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Long> productIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, productIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CatalogChangeSequence.this);
+                }
+            });
+            // Hibernate는 커밋 시 flush를 끝낸 뒤 이 작업을 실행하므로 커밋 시점 flush에서 바뀐 상품도 포함됨
+            BeforeTransactionCompletionProcess process = session ->
+                    session.doWork(connection -> write(connection, productIds));
+            entityManager.unwrap(SessionImplementor.class).getActionQueue().registerProcess(process);
+            pending = productIds;
+        }
+        pending.add(productId);
+    }
+
+    /**
+     * 엔티티를 거치지 않고 JDBC로 바꾼 상품의 변경을 지금 트랜잭션에서 바로 기록한다.
+     */
+    public void record(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        for (int i = 0; i < ids.size(); i += WRITE_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(i, Math.min(ids.size(), i + WRITE_BATCH_SIZE));
+            jdbcTemplate.update(replaceSql(chunk.size()), chunk.toArray());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            backfill();
+        } catch (Exception e) {
+            log.warn("Failed to backfill product change sequence: {}", e.getMessage());
+        }
+    }
+
+    // 변경 기록이 없는 상품에 순번을 채움. INSERT IGNORE라 여러 노드가 동시에 실행해도 안전
+    private void backfill() {
+        long filled = 0;
+        List<Long> ids;
+        do {
+            ids = jdbcTemplate.queryForList(
+                    "SELECT p.id FROM products p LEFT JOIN product_changes c ON c.product_id = p.id " +
+                    "WHERE c.product_id IS NULL ORDER BY p.id LIMIT " + BACKFILL_BATCH_SIZE, Long.class);
+            if (ids.isEmpty()) {
+                break;
+            }
+            filled += jdbcTemplate.update(
+                    "INSERT IGNORE INTO product_changes (product_id, changed_at) VALUES " + values(ids.size()),
+                    ids.toArray());
+        } while (ids.size() == BACKFILL_BATCH_SIZE);
+
+        if (filled > 0) {
+            log.info("Backfilled product change sequence: rows={}", filled);
+        }
+    }
+
+    private static void write(Connection connection, Set<Long> productIds) throws SQLException {
+        List<Long> ids = new ArrayList<>(productIds);
+        for (int i = 0; i < ids.size(); i += WRITE_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(i, Math.min(ids.size(), i + WRITE_BATCH_SIZE));
+            try (PreparedStatement statement = connection.prepareStatement(replaceSql(chunk.size()))) {
+                for (int j = 0; j < chunk.size(); j++) {
+                    statement.setLong(j + 1, chunk.get(j));
+                }
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    // 상품 ID가 유니크 키라 REPLACE는 기존 행을 지우고 새 AUTO_INCREMENT 순번으로 다시 넣음
+    private static String replaceSql(int count) {
+        return "REPLACE INTO product_changes (product_id, changed_at) VALUES " + values(count);
+    }
+
+    private static String values(int count) {
+        StringBuilder sql = new StringBuilder(count * 14);
+        for (int i = 0; i < count; i++) {
+            sql.append(i == 0 ? "(?, NOW(6))" : ", (?, NOW(6))");
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.order_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 가장 많이 호출되는 공개 카탈로그 응답을 직렬화가 끝난 UTF-8 JSON과 gzip 바이트 배열로 보관한다.
+ * 각 항목은 만들어질 때의 카탈로그 버전(세대 번호)을 함께 가지며, 버전이 바뀌면 다음 요청에서 다시 만든다.
+ * 적중 시에는 Jackson을 거치지 않고 배열을 그대로 응답 스트림에 쓰므로 요청당 할당이 거의 없다.
+ */
+@Component
+public class CatalogPayloadCache {
+
+    private static final int MAX_ENTRIES = 256;
+
+    public record Payload(byte[] json, byte[] gzip, String nextCursor, String version) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final CatalogCache catalogCache;
+    private final Map<String, Payload> payloads = new ConcurrentHashMap<>();
+
+    public CatalogPayloadCache(ObjectMapper objectMapper, CatalogCache catalogCache) {
+        this.objectMapper = objectMapper;
+        this.catalogCache = catalogCache;
+    }
+
+    public <T> Payload get(String key, Supplier<T> loader) {
+        return get(key, loader, Function.identity(), value -> null);
+    }
+
+    /**
+     * 현재 버전의 응답 바이트를 반환한다. 없거나 이전 버전이면 loader로 값을 만들어 직렬화한다.
+     * 로딩 전에 읽은 버전으로 저장하므로, 로딩 중에 카탈로그가 바뀌었다면 다음 요청에서 다시 만들어진다.
+     */
+    public <T> Payload get(String key, Supplier<T> loader, Function<T, ?> body, Function<T, String> nextCursor) {
+        String version = catalogCache.version();
+        Payload cached = payloads.get(key);
+        if (cached != null && cached.version().equals(version)) {
+            return cached;
+        }
+
+        T value = loader.get();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body.apply(value));
+            Payload payload = new Payload(json, gzip(json), nextCursor.apply(value), version);
+            if (payloads.size() >= MAX_ENTRIES && !payloads.containsKey(key)) {
+                payloads.values().removeIf(entry -> !entry.version().equals(version));
+            }
+            if (payloads.size() < MAX_ENTRIES || payloads.containsKey(key)) {
+                payloads.put(key, payload);
+            }
+            return payload;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void write(Payload payload, String nextCursorHeader, HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        byte[] bytes = gzip ? payload.gzip() : payload.json();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache, public");
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if (payload.nextCursor() != null && nextCursorHeader != null) {
+            response.setHeader(nextCursorHeader, payload.nextCursor());
+        }
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,349 @@
+package com.example.order_service.service;
+
+import com.example.order_service.dto.ProductDTO;
+import com.example.order_service.entity.Product;
+import com.example.order_service.event.ProductChangedEvent;
+import com.example.order_service.repository.ProductChangeRepository;
+import com.example.order_service.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 판매 중 상품 전체를 직렬화한 JSON으로 담은 로컬 스냅샷 파일.
+ * 새 노드는 부팅 시 파일을 메모리 매핑만 하면 되므로 DB나 캐시를 채우지 않고도 상품 단건 조회에 바로 응답할 수 있다.
+ * 파일에는 스냅샷 시점의 변경 순번이 기록되어 있어, 로드 직후 그 이후 변경된 상품을 DB에서 찾아 제외한다.
+ * 이후 변경은 ProductChangedEvent로 바로 제외하고, 이벤트를 놓친 경우(Redis 구독 전, 메시지 유실)에 대비해
+ * 마지막으로 확인한 순번 이후의 변경 기록도 주기적으로 다시 읽는다. 제외된 상품은 기존 캐시/DB 경로로 조회된다.
+ * 따라서 항상 최신 값을 보장하지는 않는다. 다른 노드의 변경은 커밋 후 이벤트가 도착하거나 다음 확인 주기가 올 때까지
+ * (기본 1초 남짓) 이전 값으로 응답될 수 있다.
+ * <p>
+ * 스냅샷은 다음 부팅에서 읽을 수 있는 경로(이미지나 볼륨)에 있어야 의미가 있으므로, 경로를 지정하지 않으면 읽지도 쓰지도 않는다.
+ * 다른 사용자가 쓸 수 있는 파일이나 디렉터리의 스냅샷은 읽거나 쓰지 않는다.
+ * <p>
+ * 파일 형식 (빅 엔디언): 헤더 [magic:int][version:int][count:int][indexOffset:long][changeSeq:long][createdAt:long],
+ * 이어서 상품별 JSON 바이트, 마지막에 ID 오름차순 인덱스 [id:long][offset:int][length:int] x count.
+ */
+@Component
+@Slf4j
+public class CatalogSnapshot {
+
+    private static final int MAGIC = 0x43534E50; // "CSNP"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 36;
+    private static final int INDEX_ENTRY_SIZE = 16;
+    private static final int BUILD_BATCH_SIZE = 5000;
+
+    private final ProductRepository productRepository;
+    private final ProductChangeRepository productChangeRepository;
+    private final ObjectMapper objectMapper;
+    private final String configuredPath;
+    private final AtomicBoolean writing = new AtomicBoolean(false);
+
+    // 경로를 지정하지 않았으면 null
+    private Path snapshotPath;
+
+    // 매핑된 스냅샷과, 스냅샷 이후 변경되어 더 이상 스냅샷 값을 쓰면 안 되는 상품 ID.
+    // lastSeenSeq는 이 순번 이하의 변경은 모두 stale에 반영했다는 뜻
+    private record Mapped(MappedByteBuffer buffer, int count, long indexOffset, long changeSeq, Set<Long> stale,
+                          AtomicLong lastSeenSeq) {
+    }
+
+    private volatile Mapped current;
+
+    @Value("${app.catalog.snapshot.write-enabled:true}")
+    private boolean writeEnabled;
+
+    @Value("${app.catalog.changes.settle-msec:5000}")
+    private long settleMillis;
+
+    public CatalogSnapshot(ProductRepository productRepository,
+                           ProductChangeRepository productChangeRepository,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.catalog.snapshot.path:}") String path) {
+        this.productRepository = productRepository;
+        this.productChangeRepository = productChangeRepository;
+        this.objectMapper = objectMapper;
+        this.configuredPath = path;
+        meterRegistry.gauge("catalog.snapshot.products", this, snapshot -> {
+            Mapped mapped = snapshot.current;
+            return mapped != null ? mapped.count() : 0;
+        });
+    }
+
+    // 웹 서버가 요청을 받기 전에 매핑과 변경분 확인을 끝냄. 이후 놓친 변경은 tail()이 이어서 반영
+    @PostConstruct
+    public void load() throws IOException {
+        if (configuredPath == null || configuredPath.isBlank()) {
+            log.info("Catalog snapshot disabled: app.catalog.snapshot.path is not set");
+            return;
+        }
+        this.snapshotPath = Path.of(configuredPath).toAbsolutePath();
+
+        long startTime = System.currentTimeMillis();
+        try {
+            verifyNotWritableByOthers(snapshotPath);
+            Mapped mapped = open(snapshotPath);
+            this.current = mapped;
+            long replayed = catchUp(mapped);
+            log.info("Catalog snapshot loaded: products={}, changeSeq={}, bytes={}, staleSinceSnapshot={}, took={}ms",
+                    mapped.count(), mapped.changeSeq(), mapped.buffer().capacity(), replayed,
+                    System.currentTimeMillis() - startTime);
+        } catch (NoSuchFileException e) {
+            log.info("No catalog snapshot at {}, serving from cache/DB until one is written", snapshotPath);
+        } catch (Exception e) {
+            this.current = null;
+            log.warn("Failed to load catalog snapshot {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷에 있고 스냅샷 이후 변경되지 않은 상품의 JSON 바이트. 없으면 null.
+     */
+    public byte[] find(Long productId) {
+        Mapped mapped = this.current;
+        if (mapped == null || productId == null || mapped.stale().contains(productId)) {
+            return null;
+        }
+
+        MappedByteBuffer buffer = mapped.buffer();
+        int low = 0;
+        int high = mapped.count() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = (int) (mapped.indexOffset() + (long) mid * INDEX_ENTRY_SIZE);
+            long id = buffer.getLong(entry);
+            if (id < productId) {
+                low = mid + 1;
+            } else if (id > productId) {
+                high = mid - 1;
+            } else {
+                byte[] json = new byte[buffer.getInt(entry + 12)];
+                // 절대 위치 읽기라 여러 요청 스레드가 같은 버퍼를 동시에 읽어도 안전
+                buffer.get(buffer.getInt(entry + 8), json);
+                return json;
+            }
+        }
+        return null;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Mapped mapped = this.current;
+        if (mapped != null) {
+            mapped.stale().addAll(event.productIds());
+        }
+    }
+
+    // 이벤트는 Redis 구독 전이나 메시지 유실 시 놓칠 수 있으므로 DB 변경 기록을 주기적으로 이어 읽음
+    @Scheduled(fixedDelayString = "${app.catalog.snapshot.tail-interval-msec:1000}")
+    public void tail() {
+        Mapped mapped = this.current;
+        if (mapped == null) {
+            return;
+        }
+        try {
+            long replayed = catchUp(mapped);
+            if (replayed > 0) {
+                log.debug("Catalog snapshot tailed changes: rows={}, lastSeenSeq={}", replayed, mapped.lastSeenSeq().get());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to tail catalog changes for snapshot: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.catalog.snapshot.interval-msec:600000}",
+               initialDelayString = "${app.catalog.snapshot.initial-delay-msec:60000}")
+    public void scheduledWrite() {
+        if (snapshotPath == null || !writeEnabled || !writing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            write();
+        } catch (Exception e) {
+            log.warn("Failed to write catalog snapshot {}: {}", snapshotPath, e.getMessage());
+        } finally {
+            writing.set(false);
+        }
+    }
+
+    /**
+     * 판매 중 상품 전체를 임시 파일에 쓴 뒤 원자적으로 교체하고 새 파일을 다시 매핑한다.
+     */
+    public void write() throws IOException {
+        if (snapshotPath == null) {
+            throw new IllegalStateException("카탈로그 스냅샷 경로가 설정되지 않았습니다.");
+        }
+        long startTime = System.currentTimeMillis();
+        // 스캔 전에 순번을 읽어 두므로, 스캔 중 바뀐 상품은 로드 시 변경분으로 다시 제외됨.
+        // 아직 커밋되지 않았을 수 있는 최근 settle 구간(DB 시계 기준)은 순번 기준에서 뺌
+        Long changeSeq = productChangeRepository.findMaxSettledSeq(settleMillis * 1000);
+        long snapshotSeq = changeSeq != null ? changeSeq : 0L;
+
+        Path directory = snapshotPath.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        verifyNotWritableByOthers(snapshotPath);
+        Path temp = Files.createTempFile(directory, "catalog", ".snapshot.tmp");
+
+        long[] ids = new long[1024];
+        int[] offsets = new int[1024];
+        int[] lengths = new int[1024];
+        int count = 0;
+        long position = HEADER_SIZE;
+        try {
+            try (OutputStream file = Files.newOutputStream(temp, StandardOpenOption.WRITE);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+                out.write(new byte[HEADER_SIZE]);
+
+                Long lastId = 0L;
+                List<ProductDTO> batch;
+                do {
+                    batch = productRepository.findDtosByStatusAfter(
+                            Product.ProductStatus.ACTIVE, lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+                    for (ProductDTO product : batch) {
+                        byte[] json = objectMapper.writeValueAsBytes(product);
+                        if (position + json.length > Integer.MAX_VALUE) {
+                            throw new IOException("스냅샷 크기가 2GB를 넘습니다.");
+                        }
+                        if (count == ids.length) {
+                            ids = Arrays.copyOf(ids, count * 2);
+                            offsets = Arrays.copyOf(offsets, count * 2);
+                            lengths = Arrays.copyOf(lengths, count * 2);
+                        }
+                        ids[count] = product.getId();
+                        offsets[count] = (int) position;
+                        lengths[count] = json.length;
+                        count++;
+                        out.write(json);
+                        position += json.length;
+                        lastId = product.getId();
+                    }
+                } while (batch.size() == BUILD_BATCH_SIZE);
+
+                for (int i = 0; i < count; i++) {
+                    out.writeLong(ids[i]);
+                    out.writeInt(offsets[i]);
+                    out.writeInt(lengths[i]);
+                }
+            }
+
+            try (RandomAccessFile file = new RandomAccessFile(temp.toFile(), "rw")) {
+                file.writeInt(MAGIC);
+                file.writeInt(VERSION);
+                file.writeInt(count);
+                file.writeLong(position);
+                file.writeLong(snapshotSeq);
+                file.writeLong(System.currentTimeMillis());
+                file.getFD().sync();
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        // 새 매핑을 먼저 공개해 이벤트를 받게 한 뒤 변경분을 확인하므로 그 사이 변경도 빠지지 않음
+        Mapped mapped = open(snapshotPath);
+        this.current = mapped;
+        long replayed = catchUp(mapped);
+        log.info("Catalog snapshot written: products={}, changeSeq={}, bytes={}, staleSinceSnapshot={}, took={}ms",
+                count, snapshotSeq, position + (long) count * INDEX_ENTRY_SIZE, replayed,
+                System.currentTimeMillis() - startTime);
+    }
+
+    // 마지막으로 확인한 순번 이후 변경된 상품을 모두 제외 목록에 넣음.
+    // 순번은 커밋 순서와 어긋날 수 있으므로 lastSeenSeq는 settle 구간 밖의 빈틈 없는 앞부분까지만 올리고,
+    // 최근 변경은 다음 확인 때 다시 읽음 (이미 제외된 ID를 다시 넣는 것은 무해함)
+    private long catchUp(Mapped mapped) {
+        long since = mapped.lastSeenSeq().get();
+        long settleMicros = settleMillis * 1000;
+        boolean settledPrefix = true;
+        long replayed = 0;
+        List<Object[]> rows;
+        do {
+            rows = productChangeRepository.findChangesAfter(since, settleMicros, BUILD_BATCH_SIZE);
+            for (Object[] row : rows) {
+                mapped.stale().add(((Number) row[0]).longValue());
+                since = ((Number) row[1]).longValue();
+                settledPrefix = settledPrefix && ((Number) row[2]).intValue() == 1;
+                if (settledPrefix) {
+                    mapped.lastSeenSeq().accumulateAndGet(since, Math::max);
+                }
+            }
+            replayed += rows.size();
+        } while (rows.size() == BUILD_BATCH_SIZE);
+        return replayed;
+    }
+
+    // 다른 사용자가 쓸 수 있는 파일이나 디렉터리의 스냅샷은 바꿔치기되었을 수 있으므로 쓰거나 읽지 않음 (POSIX 파일 시스템만 확인)
+    private static void verifyNotWritableByOthers(Path path) throws IOException {
+        for (Path target : new Path[]{path, path.getParent()}) {
+            if (target == null || !Files.exists(target)) {
+                continue;
+            }
+            PosixFileAttributeView view = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+            if (view == null) {
+                continue;
+            }
+            Set<PosixFilePermission> permissions = view.readAttributes().permissions();
+            if (permissions.contains(PosixFilePermission.OTHERS_WRITE)) {
+                throw new IOException(target + "에 다른 사용자 쓰기 권한이 있습니다 ("
+                        + PosixFilePermissions.toString(permissions) + ").");
+            }
+        }
+    }
+
+    private static Mapped open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("스냅샷 파일 크기가 올바르지 않습니다: " + size);
+            }
+            // 매핑은 채널을 닫아도 유지됨
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.BIG_ENDIAN);
+
+            int magic = buffer.getInt(0);
+            int version = buffer.getInt(4);
+            int count = buffer.getInt(8);
+            long indexOffset = buffer.getLong(12);
+            long changeSeq = buffer.getLong(20);
+            if (magic != MAGIC || version != VERSION || count < 0
+                    || indexOffset < HEADER_SIZE || indexOffset + (long) count * INDEX_ENTRY_SIZE != size) {
+                throw new IOException("스냅샷 파일 형식이 올바르지 않습니다.");
+            }
+            return new Mapped(buffer, count, indexOffset, changeSeq, ConcurrentHashMap.newKeySet(),
+                    new AtomicLong(changeSeq));
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.order_service.service;
+
+import com.example.order_service.dto.CategoryFacet;
+import com.example.order_service.dto.ProductFacetView;
+import com.example.order_service.entity.Product;
+import com.example.order_service.event.ProductChangedEvent;
+import com.example.order_service.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카테고리별 판매 중 상품 수와 최저/최고가를 메모리에 유지하는 집계 인덱스.
+ * 상품별 마지막 상태를 기억해 두고 변경 이벤트마다 이전 값을 빼고 새 값을 더하므로 전체 재집계가 필요 없다.
+ * 조회는 변경 시점에 만들어 둔 불변 스냅샷을 반환하므로 O(카테고리 수)이고 DB에 접근하지 않는다.
+ * 시작 시 집계는 백그라운드에서 만들며, 끝나기 전(isReady()가 false)에는 호출 측이 DB의 카테고리 목록만 응답한다.
+ */
+@Component
+@Slf4j
+public class CategoryFacetIndex {
+
+    private static final int BUILD_BATCH_SIZE = 5000;
+
+    private final ProductRepository productRepository;
+
+    private record ProductState(String category, BigDecimal price, boolean active) {
+    }
+
+    private static final class Facet {
+        int totalCount;
+        int activeCount;
+        // 판매 중 상품 가격 -> 개수. 상품이 빠져도 최저/최고가를 바로 구할 수 있음
+        final TreeMap<BigDecimal, Integer> activePrices = new TreeMap<>();
+    }
+
+    // 아래 두 맵은 모두 this 잠금 안에서만 변경
+    private final Map<Long, ProductState> products = new HashMap<>();
+    private final TreeMap<String, Facet> facets = new TreeMap<>();
+
+    private volatile List<CategoryFacet> snapshot = List.of();
+    private volatile List<String> categoryNames = List.of();
+    private volatile boolean ready;
+    private volatile Set<Long> changedDuringBuild;
+
+    public CategoryFacetIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    // 전체 상품을 읽는 집계는 상품 수에 비례해 오래 걸리므로 시작을 막지 않고 별도 스레드에서 수행
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBuild() {
+        this.changedDuringBuild = ConcurrentHashMap.newKeySet();
+        Thread thread = new Thread(() -> {
+            try {
+                build();
+            } catch (Exception e) {
+                this.changedDuringBuild = null;
+                log.error("Failed to build category facet index, category counts stay unavailable", e);
+            }
+        }, "category-facet-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void build() {
+        long startTime = System.currentTimeMillis();
+        if (this.changedDuringBuild == null) {
+            this.changedDuringBuild = ConcurrentHashMap.newKeySet();
+        }
+
+        long loaded = 0;
+        Long lastId = 0L;
+        List<ProductFacetView> batch;
+        do {
+            batch = productRepository.findFacetSourcesAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            synchronized (this) {
+                for (ProductFacetView view : batch) {
+                    apply(view.getId(), toState(view));
+                    lastId = view.getId();
+                }
+            }
+            loaded += batch.size();
+        } while (batch.size() == BUILD_BATCH_SIZE);
+
+        Set<Long> changed = this.changedDuringBuild;
+        this.changedDuringBuild = null;
+        if (!changed.isEmpty()) {
+            reload(List.copyOf(changed));
+        }
+
+        synchronized (this) {
+            publishSnapshot();
+        }
+        this.ready = true;
+        log.info("Category facet index built: products={}, categories={}, replayed={}, took={}ms",
+                loaded, snapshot.size(), changed.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // 카탈로그 ETag가 바뀌기 전에 집계가 먼저 반영되도록 가장 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Set<Long> pending = this.changedDuringBuild;
+        if (pending != null) {
+            pending.addAll(event.productIds());
+        }
+        reload(event.productIds());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<CategoryFacet> getFacets() {
+        return snapshot;
+    }
+
+    public List<String> getCategoryNames() {
+        return categoryNames;
+    }
+
+    private void reload(List<Long> productIds) {
+        Map<Long, ProductFacetView> views = new HashMap<>();
+        for (List<Long> chunk : chunks(productIds)) {
+            productRepository.findFacetSourcesByIdIn(chunk).forEach(view -> views.put(view.getId(), view));
+        }
+        synchronized (this) {
+            for (Long productId : productIds) {
+                ProductFacetView view = views.get(productId);
+                apply(productId, view != null ? toState(view) : null);
+            }
+            if (changedDuringBuild == null) {
+                publishSnapshot();
+            }
+        }
+    }
+
+    // 이전 상태를 집계에서 빼고 새 상태를 더함. next가 null이면 삭제
+    private void apply(Long productId, ProductState next) {
+        ProductState previous = next != null ? products.put(productId, next) : products.remove(productId);
+        if (previous != null) {
+            remove(previous);
+        }
+        if (next != null) {
+            add(next);
+        }
+    }
+
+    private void add(ProductState state) {
+        if (state.category() == null) {
+            return;
+        }
+        Facet facet = facets.computeIfAbsent(state.category(), key -> new Facet());
+        facet.totalCount++;
+        if (state.active()) {
+            facet.activeCount++;
+            facet.activePrices.merge(state.price(), 1, Integer::sum);
+        }
+    }
+
+    private void remove(ProductState state) {
+        Facet facet = state.category() != null ? facets.get(state.category()) : null;
+        if (facet == null) {
+            return;
+        }
+        facet.totalCount--;
+        if (state.active()) {
+            facet.activeCount--;
+            facet.activePrices.computeIfPresent(state.price(), (price, count) -> count > 1 ? count - 1 : null);
+        }
+        if (facet.totalCount <= 0) {
+            facets.remove(state.category());
+        }
+    }
+
+    private void publishSnapshot() {
+        List<CategoryFacet> nextFacets = new ArrayList<>(facets.size());
+        facets.forEach((category, facet) -> nextFacets.add(new CategoryFacet(
+                category,
+                facet.activeCount,
+                facet.activePrices.isEmpty() ? null : facet.activePrices.firstKey(),
+                facet.activePrices.isEmpty() ? null : facet.activePrices.lastKey())));
+        this.snapshot = List.copyOf(nextFacets);
+        this.categoryNames = List.copyOf(facets.keySet());
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += BUILD_BATCH_SIZE) {
+            chunks.add(ids.subList(i, Math.min(ids.size(), i + BUILD_BATCH_SIZE)));
+        }
+        return chunks;
+    }
+
+    private static ProductState toState(ProductFacetView view) {
+        return new ProductState(view.getCategory(), view.getPrice(),
+                view.getStatus() == Product.ProductStatus.ACTIVE);
+    }
+}
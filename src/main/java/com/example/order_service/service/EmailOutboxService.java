@@ -0,0 +1,38 @@
+package com.example.order_service.service;
+
+import com.example.order_service.entity.EmailOutbox;
+import com.example.order_service.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송할 메일을 호출자의 트랜잭션 안에서 email_outbox에 기록한다.
+ * 실제 SMTP 전송은 커밋 이후 EmailOutboxWorker가 수행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public record EmailEnqueuedEvent(Long outboxId) {
+    }
+
+    public EmailOutbox enqueue(String recipient, String subject, String body) {
+        EmailOutbox outbox = emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+
+        eventPublisher.publishEvent(new EmailEnqueuedEvent(outbox.getId()));
+        return outbox;
+    }
+}
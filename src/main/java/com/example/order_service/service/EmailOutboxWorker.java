@@ -0,0 +1,139 @@
+package com.example.order_service.service;
+
+import com.example.order_service.entity.EmailOutbox;
+import com.example.order_service.repository.EmailOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * email_outbox를 비워 실제로 메일을 전송한다.
+ * 커밋 직후 이벤트로 즉시 전송을 시도하고, 실패했거나 놓친 메시지는 주기적 폴링으로 재시도한다.
+ * 재시도 간격은 지수적으로 늘어나며 최대 시도 횟수를 넘으면 DEAD 상태로 남긴다.
+ */
+@Component
+@Slf4j
+public class EmailOutboxWorker implements DisposableBean {
+
+    private static final int POLL_BATCH_SIZE = 100;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final ExecutorService executor;
+
+    @Value("${app.mail.from:noreply@orderservice.com}")
+    private String fromEmail;
+
+    @Value("${app.mail.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.base-backoff-seconds:30}")
+    private long baseBackoffSeconds;
+
+    @Value("${app.mail.outbox.lease-seconds:120}")
+    private long leaseSeconds;
+
+    public EmailOutboxWorker(EmailOutboxRepository emailOutboxRepository,
+                             JavaMailSender mailSender,
+                             @Value("${app.mail.outbox.threads:4}") int threads) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSender = mailSender;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEnqueued(EmailOutboxService.EmailEnqueuedEvent event) {
+        submit(event.outboxId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-msec:10000}")
+    public void pollDue() {
+        List<Long> dueIds = emailOutboxRepository.findDueIds(
+                EmailOutbox.OutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, POLL_BATCH_SIZE));
+        dueIds.forEach(this::submit);
+    }
+
+    private void submit(Long outboxId) {
+        try {
+            executor.submit(() -> deliver(outboxId));
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 다음 기동 시 폴링이 처리
+            log.debug("Email outbox executor is shut down, leaving id={} for polling", outboxId);
+        }
+    }
+
+    void deliver(Long outboxId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (emailOutboxRepository.claim(outboxId, EmailOutbox.OutboxStatus.PENDING, now, now.plusSeconds(leaseSeconds)) == 0) {
+            return; // 다른 워커가 처리 중이거나 아직 재시도 시각이 아님
+        }
+
+        EmailOutbox outbox = emailOutboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null) {
+            return;
+        }
+
+        try {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(fromEmail);
+            message.setTo(outbox.getRecipient());
+            message.setSubject(outbox.getSubject());
+            message.setText(outbox.getBody());
+
+            mailSender.send(message);
+
+            outbox.setStatus(EmailOutbox.OutboxStatus.SENT);
+            outbox.setSentAt(LocalDateTime.now());
+            outbox.setLastError(null);
+            outbox.setBody(null);
+            log.info("Email sent from outbox: id={}, to={}", outbox.getId(), outbox.getRecipient());
+        } catch (Exception e) {
+            outbox.setLastError(truncate(e.getMessage()));
+            if (outbox.getAttempts() >= maxAttempts) {
+                outbox.setStatus(EmailOutbox.OutboxStatus.DEAD);
+                outbox.setBody(null);
+                log.error("Email moved to dead letter after {} attempts: id={}, to={}",
+                        outbox.getAttempts(), outbox.getId(), outbox.getRecipient(), e);
+            } else {
+                long backoff = baseBackoffSeconds << Math.min(outbox.getAttempts() - 1, 16);
+                outbox.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoff));
+                log.warn("Email send failed, retrying in {}s: id={}, attempt={}, error={}",
+                        backoff, outbox.getId(), outbox.getAttempts(), e.getMessage());
+            }
+        }
+
+        emailOutboxRepository.save(outbox);
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
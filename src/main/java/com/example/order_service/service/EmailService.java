@@ -1,18 +1,23 @@
 package com.example.order_service.service;
 
+import com.example.order_service.dto.OrderStatusChangedEvent;
 import com.example.order_service.entity.EmailVerification;
+import com.example.order_service.entity.Order;
 import com.example.order_service.entity.User;
 import com.example.order_service.repository.EmailVerificationRepository;
+import com.example.order_service.util.MailTemplate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
 
@@ -22,8 +27,26 @@ import java.util.UUID;
 @Transactional
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private static final MailTemplate ORDER_STATUS_SUBJECT = MailTemplate.compile("[Order Service] 주문 {orderNumber} {statusLabel}");
+    private static final MailTemplate ORDER_STATUS_BODY = MailTemplate.compile(
+            "안녕하세요 {name}님,\n\n" +
+                    "주문하신 {orderNumber} 주문이 {statusLabel}.\n\n" +
+                    "주문 상세는 {baseUrl} 에서 확인하실 수 있습니다.\n\n" +
+                    "감사합니다.\n" +
+                    "Order Service 팀");
+    private static final Map<Order.OrderStatus, String> ORDER_STATUS_LABELS = new EnumMap<>(Map.of(
+            Order.OrderStatus.CONFIRMED, "확인되었습니다",
+            Order.OrderStatus.PROCESSING, "준비 중입니다",
+            Order.OrderStatus.SHIPPED, "발송되었습니다",
+            Order.OrderStatus.DELIVERED, "배송 완료되었습니다",
+            Order.OrderStatus.CANCELLED, "취소되었습니다",
+            Order.OrderStatus.REFUNDED, "환불되었습니다"
+    ));
+
     private final EmailVerificationRepository emailVerificationRepository;
+    private final EmailOutboxService emailOutboxService;
+    private final VerificationStore verificationStore;
+    private final BulkMailSender bulkMailSender;
 
     @Value("${app.mail.verification.expiration-hours:24}")
     private int verificationExpirationHours;
@@ -31,9 +54,6 @@ public class EmailService {
     @Value("${app.mail.verification.code-expiration-minutes:10}")
     private int codeExpirationMinutes;
 
-    @Value("${app.mail.from:noreply@orderservice.com}")
-    private String fromEmail;
-
     @Value("${app.base-url:http://localhost:8080}")
     private String baseUrl;
 
@@ -54,16 +74,12 @@ public class EmailService {
 
             emailVerificationRepository.save(verification);
 
-            // 이메일 전송
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(user.getEmail());
-            message.setSubject("이메일 인증을 완료해주세요 - Order Service");
-            message.setText(buildVerificationEmailContent(user.getName(), token));
+            // 이메일 전송은 커밋 후 outbox 워커가 처리
+            emailOutboxService.enqueue(user.getEmail(),
+                    "이메일 인증을 완료해주세요 - Order Service",
+                    buildVerificationEmailContent(user.getName(), token));
 
-            mailSender.send(message);
-
-            log.info("Verification email sent to: {}", user.getEmail());
+            log.info("Verification email queued for: {}", user.getEmail());
 
         } catch (Exception e) {
             log.error("Failed to send verification email to: {}", user.getEmail(), e);
@@ -71,44 +87,18 @@ public class EmailService {
         }
     }
 
-    public void cleanupExpiredTokens() {
-        try {
-            emailVerificationRepository.deleteExpiredTokens(LocalDateTime.now());
-            log.debug("Expired email verification tokens cleaned up");
-        } catch (Exception e) {
-            log.error("Failed to cleanup expired tokens", e);
-        }
-    }
-
     public String sendVerificationCode(String email) {
         try {
-            // 기존 미사용 인증번호 삭제
-            emailVerificationRepository.deleteByEmail(email);
-
-            // 6자리 인증번호 생성
+            // 6자리 인증번호 생성 (기존 인증번호는 대체됨)
             String verificationCode = generateSixDigitCode();
-            String token = UUID.randomUUID().toString(); // 토큰도 함께 생성
-            LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(codeExpirationMinutes);
-
-            EmailVerification verification = EmailVerification.builder()
-                    .email(email)
-                    .token(token)
-                    .verificationCode(verificationCode)
-                    .expiresAt(expiresAt)
-                    .build();
+            verificationStore.saveCode(email, verificationCode, Duration.ofMinutes(codeExpirationMinutes));
 
-            emailVerificationRepository.save(verification);
-
-            // 인증번호 이메일 전송
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(email);
-            message.setSubject("이메일 인증번호 - Order Service");
-            message.setText(buildVerificationCodeEmailContent(verificationCode));
+            // 인증번호 이메일 전송은 커밋 후 outbox 워커가 처리
+            emailOutboxService.enqueue(email,
+                    "이메일 인증번호 - Order Service",
+                    buildVerificationCodeEmailContent(verificationCode));
 
-            mailSender.send(message);
-
-            log.info("Verification code sent to: {}", email);
+            log.info("Verification code queued for: {}", email);
             return verificationCode; // 테스트용으로 반환 (실제 서비스에서는 반환하지 않음)
 
         } catch (Exception e) {
@@ -118,39 +108,45 @@ public class EmailService {
     }
 
     public boolean verifyCode(String email, String code) {
-        Optional<EmailVerification> verificationOpt =
-                emailVerificationRepository.findByEmailAndVerificationCodeAndIsUsedFalse(email, code);
-
-        if (verificationOpt.isEmpty()) {
-            log.warn("Verification code not found or already used: email={}, code={}", email, code);
-            return false;
-        }
-
-        EmailVerification verification = verificationOpt.get();
-
-        if (verification.isExpired()) {
-            log.warn("Verification code expired: email={}, code={}", email, code);
+        if (!verificationStore.verify(email, code)) {
+            log.warn("Verification code invalid, expired or already used: email={}", email);
             return false;
         }
 
-        // 인증번호 확인만 하고 사용됨으로 표시하지 않음 (회원가입 시에 표시)
-        verification.setVerifiedAt(LocalDateTime.now());
-        emailVerificationRepository.save(verification);
-
         log.info("Email verification code verified for: {}", email);
         return true;
     }
 
     public boolean isCodeVerified(String email, String code) {
-        Optional<EmailVerification> verificationOpt =
-                emailVerificationRepository.findByEmailAndVerificationCodeAndIsUsedFalse(email, code);
+        return verificationStore.isVerified(email, code);
+    }
 
-        if (verificationOpt.isEmpty()) {
-            return false;
-        }
+    public void consumeVerificationCode(String email, String code) {
+        verificationStore.consume(email, code);
+    }
 
-        EmailVerification verification = verificationOpt.get();
-        return verification.getVerifiedAt() != null && !verification.isExpired();
+    /**
+     * 주문 상태 알림을 묶음으로 발송한다. SMTP 전송 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkMailSender.BulkResult sendOrderStatusNotifications(List<OrderStatusChangedEvent> events) {
+        List<BulkMailSender.OutgoingMessage> messages = events.stream()
+                .map(event -> {
+                    Map<String, String> values = Map.of(
+                            "name", event.getCustomerName() != null ? event.getCustomerName() : "고객",
+                            "orderNumber", event.getOrderNumber() != null ? event.getOrderNumber() : String.valueOf(event.getOrderId()),
+                            "statusLabel", ORDER_STATUS_LABELS.getOrDefault(event.getStatus(), event.getStatus().name()),
+                            "baseUrl", baseUrl);
+                    return new BulkMailSender.OutgoingMessage(event.getCustomerEmail(),
+                            ORDER_STATUS_SUBJECT.render(values), ORDER_STATUS_BODY.render(values));
+                })
+                .toList();
+
+        BulkMailSender.BulkResult result = bulkMailSender.sendAll(messages);
+        if (!result.failedRecipients().isEmpty()) {
+            log.warn("Order status notifications failed for {} recipients", result.failedRecipients().size());
+        }
+        return result;
     }
 
     private String generateSixDigitCode() {
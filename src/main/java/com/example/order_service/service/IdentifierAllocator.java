@@ -0,0 +1,109 @@
+package com.example.order_service.service;
+
+import com.example.order_service.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 중복되지 않는 username/nickname을 base, base1, base2... 순서로 할당한다.
+ * 사용 중인 접미사는 prefix 범위 쿼리 한 번으로 모두 가져오고,
+ * 선택한 후보는 Redis SET NX로 잠시 예약해 여러 노드의 동시 가입이 같은 값을 고르지 않게 한다.
+ * 비교와 예약은 컬럼 collation(utf8mb4_0900_ai_ci)과 같이 대소문자/악센트를 무시하도록 IdentityIndex.normalize로 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdentifierAllocator {
+
+    private static final String RESERVATION_KEY_PREFIX = "identity:reserve:";
+    private static final Duration RESERVATION_TTL = Duration.ofSeconds(60);
+
+    private final UserRepository userRepository;
+    private final IdentityIndex identityIndex;
+    private final StringRedisTemplate redisTemplate;
+
+    public String allocateUsername(String base) {
+        return allocate(IdentityIndex.Field.USERNAME, base);
+    }
+
+    public String allocateNickname(String base) {
+        return allocate(IdentityIndex.Field.NICKNAME, base);
+    }
+
+    private String allocate(IdentityIndex.Field field, String base) {
+        // 인덱스상 확실히 비어 있으면 쿼리 없이 바로 예약 시도
+        if (identityIndex.isDefinitelyAvailable(field, base) && reserve(field, base)) {
+            return base;
+        }
+
+        List<String> taken = field == IdentityIndex.Field.USERNAME
+                ? userRepository.findUsernamesLike(escapeLike(base) + "%")
+                : userRepository.findNicknamesLike(escapeLike(base) + "%");
+
+        String normalizedBase = IdentityIndex.normalize(base);
+        Set<Long> takenSuffixes = new HashSet<>();
+        boolean baseTaken = false;
+        for (String value : taken) {
+            String normalized = IdentityIndex.normalize(value);
+            if (normalized.equals(normalizedBase)) {
+                baseTaken = true;
+            } else if (normalized.startsWith(normalizedBase)) {
+                String suffix = normalized.substring(normalizedBase.length());
+                if (isNumeric(suffix)) {
+                    takenSuffixes.add(Long.parseLong(suffix));
+                }
+            }
+        }
+
+        if (!baseTaken && reserve(field, base)) {
+            return base;
+        }
+
+        for (long counter = 1; ; counter++) {
+            if (!takenSuffixes.contains(counter)) {
+                String candidate = base + counter;
+                if (reserve(field, candidate)) {
+                    log.debug("Allocated {} for base '{}': {} (taken={})", field, base, candidate, taken.size());
+                    return candidate;
+                }
+            }
+        }
+    }
+
+    private boolean reserve(IdentityIndex.Field field, String candidate) {
+        String key = RESERVATION_KEY_PREFIX + field.name().toLowerCase(Locale.ROOT) + ":" + IdentityIndex.normalize(candidate);
+        try {
+            Boolean reserved = redisTemplate.opsForValue().setIfAbsent(key, "1", RESERVATION_TTL);
+            return Boolean.TRUE.equals(reserved);
+        } catch (Exception e) {
+            // Redis 장애 시에는 유니크 제약에 의존
+            log.warn("Identifier reservation unavailable, relying on unique constraint: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    static boolean isNumeric(String value) {
+        if (value.isEmpty() || value.length() > 18 || value.charAt(0) == '0') {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.order_service.service;
+
+import com.example.order_service.dto.UserIdentityView;
+import com.example.order_service.repository.UserRepository;
+import com.example.order_service.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 아이디/닉네임/이메일 사용 여부를 메모리에서 판별하는 인덱스.
+ * Bloom filter에 없으면 확실히 사용 가능하므로 DB를 조회하지 않고, 있을 수도 있는 경우에만 DB로 확인한다.
+ * 다른 노드에서 추가된 값은 Redis pub/sub으로 전달받아 반영한다.
+ */
+@Component
+@Slf4j
+public class IdentityIndex implements MessageListener {
+
+    public static final String CHANNEL = "identity:added";
+
+    private static final int BUILD_BATCH_SIZE = 5000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    public enum Field {
+        USERNAME, NICKNAME, EMAIL
+    }
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final long minimumCapacity;
+
+    private volatile Filters filters;
+    // 구축 중인 필터. 구축 도중 들어온 쓰기도 여기에 함께 반영해 누락을 막음
+    private volatile Filters building;
+
+    private record Filters(BloomFilter usernames, BloomFilter nicknames, BloomFilter emails) {
+        BloomFilter of(Field field) {
+            return switch (field) {
+                case USERNAME -> usernames;
+                case NICKNAME -> nicknames;
+                case EMAIL -> emails;
+            };
+        }
+    }
+
+    public IdentityIndex(UserRepository userRepository,
+                         StringRedisTemplate redisTemplate,
+                         @Value("${app.identity-index.capacity:1000000}") long minimumCapacity) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.minimumCapacity = minimumCapacity;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startTime = System.currentTimeMillis();
+        long capacity = Math.max(minimumCapacity, userRepository.count() * 2);
+        Filters next = new Filters(
+                new BloomFilter(capacity, FALSE_POSITIVE_RATE),
+                new BloomFilter(capacity, FALSE_POSITIVE_RATE),
+                new BloomFilter(capacity, FALSE_POSITIVE_RATE));
+        this.building = next;
+
+        Filters previous = this.filters;
+        long loaded = 0;
+        Long lastId = 0L;
+        List<UserIdentityView> batch;
+        do {
+            batch = userRepository.findIdentitiesAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            for (UserIdentityView identity : batch) {
+                putIfPresent(next.usernames(), identity.getUsername());
+                putIfPresent(next.nicknames(), identity.getNickname());
+                putIfPresent(next.emails(), identity.getEmail());
+                lastId = identity.getId();
+            }
+            loaded += batch.size();
+        } while (batch.size() == BUILD_BATCH_SIZE);
+
+        this.filters = next;
+        this.building = null;
+        log.info("Identity index built: users={}, capacity={}, rebuilt={}, took={}ms",
+                loaded, capacity, previous != null, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 값이 이미 사용 중인지 확인한다. 인덱스가 준비되지 않았거나 Bloom filter가 양성이면 DB로 확인한다.
+     */
+    public boolean exists(Field field, String value) {
+        if (isDefinitelyAvailable(field, value)) {
+            return false;
+        }
+
+        return switch (field) {
+            case USERNAME -> userRepository.existsByUsername(value);
+            case NICKNAME -> userRepository.existsByNickname(value);
+            case EMAIL -> userRepository.existsByEmail(value);
+        };
+    }
+
+    /**
+     * Bloom filter 기준으로 확실히 사용되지 않은 값인지 확인한다 (DB 조회 없음).
+     */
+    public boolean isDefinitelyAvailable(Field field, String value) {
+        Filters current = this.filters;
+        if (current == null) {
+            return false;
+        }
+        String normalized = normalize(value);
+        return isComparable(normalized) && !current.of(field).mightContain(normalized);
+    }
+
+    public void addUser(String username, String nickname, String email) {
+        add(Field.USERNAME, username);
+        add(Field.NICKNAME, nickname);
+        add(Field.EMAIL, email);
+    }
+
+    public void add(Field field, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        addLocal(field, value);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, field.name() + " " + value);
+        } catch (Exception e) {
+            log.warn("Failed to publish identity update: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(" ", 2);
+        if (parts.length == 2) {
+            addLocal(Field.valueOf(parts[0]), parts[1]);
+        }
+    }
+
+    private void addLocal(Field field, String value) {
+        String normalized = normalize(value);
+        Filters current = this.filters;
+        if (current != null) {
+            current.of(field).put(normalized);
+        }
+        Filters pending = this.building;
+        if (pending != null) {
+            pending.of(field).put(normalized);
+        }
+    }
+
+    private static void putIfPresent(BloomFilter filter, String value) {
+        if (value != null && !value.isEmpty()) {
+            filter.put(normalize(value));
+        }
+    }
+
+    /**
+     * utf8mb4_0900_ai_ci는 대소문자와 악센트를 구분하지 않으므로(é = e = E) 호환 분해(NFKD) 후 결합 문자를 지우고 소문자로 바꾼다.
+     * 전각 문자와 합자도 NFKD에서 기본 문자로 풀린다.
+     */
+    static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화 결과가 collation과 같은 비교 결과를 낸다고 확신할 수 있는 문자(ASCII, 한글 자모)로만 이루어졌는지 확인한다.
+     * 그 밖의 문자는 collation 확장(ß = ss 등) 때문에 Bloom filter가 틀린 "사용 가능" 답을 낼 수 있으므로 DB로 확인한다.
+     */
+    static boolean isComparable(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= 0x80 && (c < 0x1100 || c > 0x11FF)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
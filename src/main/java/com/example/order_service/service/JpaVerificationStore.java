@@ -0,0 +1,71 @@
+package com.example.order_service.service;
+
+import com.example.order_service.entity.EmailVerification;
+import com.example.order_service.repository.EmailVerificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * email_verifications 테이블 기반 인증번호 저장소 (app.mail.verification.store=jpa).
+ * 시도 횟수 제한은 적용되지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.mail.verification.store", havingValue = "jpa")
+@RequiredArgsConstructor
+@Transactional
+public class JpaVerificationStore implements VerificationStore {
+
+    private final EmailVerificationRepository emailVerificationRepository;
+
+    @Override
+    public void saveCode(String email, String code, Duration ttl) {
+        // 기존 미사용 인증번호 삭제
+        emailVerificationRepository.deleteByEmail(email);
+
+        emailVerificationRepository.save(EmailVerification.builder()
+                .email(email)
+                .token(UUID.randomUUID().toString())
+                .verificationCode(code)
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .build());
+    }
+
+    @Override
+    public boolean verify(String email, String code) {
+        Optional<EmailVerification> verificationOpt =
+                emailVerificationRepository.findByEmailAndVerificationCodeAndIsUsedFalse(email, code);
+
+        if (verificationOpt.isEmpty() || verificationOpt.get().isExpired()) {
+            return false;
+        }
+
+        // 인증번호 확인만 하고 사용됨으로 표시하지 않음 (회원가입 시에 표시)
+        EmailVerification verification = verificationOpt.get();
+        verification.setVerifiedAt(LocalDateTime.now());
+        emailVerificationRepository.save(verification);
+        return true;
+    }
+
+    @Override
+    public boolean isVerified(String email, String code) {
+        return emailVerificationRepository.findByEmailAndVerificationCodeAndIsUsedFalse(email, code)
+                .map(verification -> verification.getVerifiedAt() != null && !verification.isExpired())
+                .orElse(false);
+    }
+
+    @Override
+    public void consume(String email, String code) {
+        emailVerificationRepository.findByEmailAndVerificationCodeAndIsUsedFalse(email, code)
+                .ifPresent(verification -> {
+                    verification.setIsUsed(true);
+                    emailVerificationRepository.save(verification);
+                });
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.order_service.service;
+
+import com.example.order_service.dto.OrderStatusChangedEvent;
+import com.example.order_service.entity.Order;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문 상태 변경 이벤트를 구독해 고객 알림 메일로 변환한다.
+ * 같은 주문의 연속된 상태 변경은 coalesce 구간 동안 모아 알림 대상인 최신 상태 하나로 합치고,
+ * 고객별 최소 발송 간격을 Redis로 제한한 뒤 EmailService에 묶음으로 넘긴다.
+ * 알림은 best-effort이며 노드가 모아 둔 상태에서 종료되면 해당 알림은 유실될 수 있다.
+ */
+@Component
+@Slf4j
+public class OrderStatusNotificationListener {
+
+    private static final String RATE_LIMIT_KEY_PREFIX = "notify:order-status:customer:";
+    private static final Set<Order.OrderStatus> NOTIFIABLE_STATUSES = EnumSet.of(
+            Order.OrderStatus.CONFIRMED, Order.OrderStatus.SHIPPED, Order.OrderStatus.DELIVERED,
+            Order.OrderStatus.CANCELLED, Order.OrderStatus.REFUNDED);
+
+    private final EmailService emailService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 주문 ID -> 대기 중인 최신 상태
+    private final Map<Long, PendingNotification> pending = new ConcurrentHashMap<>();
+
+    @Value("${app.notification.order-status.coalesce-msec:30000}")
+    private long coalesceMillis;
+
+    @Value("${app.notification.order-status.customer-interval-msec:60000}")
+    private long customerIntervalMillis;
+
+    @Value("${app.notification.order-status.batch-size:500}")
+    private int batchSize;
+
+    private record PendingNotification(OrderStatusChangedEvent event, long firstSeenAt) {
+    }
+
+    public OrderStatusNotificationListener(EmailService emailService,
+                                           StringRedisTemplate redisTemplate,
+                                           ObjectMapper objectMapper) {
+        this.emailService = emailService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @KafkaListener(topics = "${app.kafka.topics.order-status:order-status-changed}",
+                   groupId = "${app.notification.order-status.group-id:order-status-notifications}")
+    public void onOrderStatusChanged(String payload) {
+        OrderStatusChangedEvent event;
+        try {
+            event = objectMapper.readValue(payload, OrderStatusChangedEvent.class);
+        } catch (Exception e) {
+            log.warn("Skipping malformed order status event: {}", e.getMessage());
+            return;
+        }
+
+        // 알림 대상이 아닌 상태(PROCESSING 등)는 대기 중인 알림 대상 상태를 덮어쓰지 않도록 여기서 버림
+        if (event.getOrderId() == null || event.getCustomerEmail() == null
+                || event.getStatus() == null || !NOTIFIABLE_STATUSES.contains(event.getStatus())) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        pending.merge(event.getOrderId(), new PendingNotification(event, now), (previous, incoming) ->
+                isNewer(incoming.event(), previous.event())
+                        ? new PendingNotification(incoming.event(), previous.firstSeenAt())
+                        : previous);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.order-status.flush-interval-msec:5000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        List<OrderStatusChangedEvent> batch = new ArrayList<>();
+
+        for (Map.Entry<Long, PendingNotification> entry : pending.entrySet()) {
+            PendingNotification notification = entry.getValue();
+            if (now - notification.firstSeenAt() < coalesceMillis) {
+                continue;
+            }
+
+            // 먼저 꺼낸 뒤 발송 간격 슬롯을 잡음. 그 사이 더 최신 상태로 바뀌었으면 꺼내지 못하고 다음 flush에서 처리
+            if (!pending.remove(entry.getKey(), notification)) {
+                continue;
+            }
+
+            // 고객별 발송 간격 제한에 걸리면 되돌려 놓고 다음 flush까지 대기 (그 사이 들어온 변경과 합쳐짐)
+            OrderStatusChangedEvent event = notification.event();
+            if (!tryAcquireCustomerSlot(event)) {
+                pending.merge(entry.getKey(), notification, (incoming, restored) ->
+                        isNewer(incoming.event(), restored.event())
+                                ? new PendingNotification(incoming.event(), restored.firstSeenAt())
+                                : restored);
+                continue;
+            }
+
+            batch.add(event);
+            if (batch.size() >= batchSize) {
+                emailService.sendOrderStatusNotifications(batch);
+                batch = new ArrayList<>();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            emailService.sendOrderStatusNotifications(batch);
+        }
+    }
+
+    private boolean tryAcquireCustomerSlot(OrderStatusChangedEvent event) {
+        String customerKey = event.getCustomerId() != null ? String.valueOf(event.getCustomerId()) : event.getCustomerEmail();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
+                    RATE_LIMIT_KEY_PREFIX + customerKey, "1", Duration.ofMillis(customerIntervalMillis));
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("Notification rate limiter unavailable, sending anyway: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private static boolean isNewer(OrderStatusChangedEvent candidate, OrderStatusChangedEvent current) {
+        if (candidate.getChangedAt() == null || current.getChangedAt() == null) {
+            return true;
+        }
+        return !candidate.getChangedAt().isBefore(current.getChangedAt());
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.order_service.service;
+
+import com.example.order_service.dto.ProductImportResult;
+import com.example.order_service.dto.ProductImportRow;
+import com.example.order_service.entity.Product;
+import com.example.order_service.entity.User;
+import com.example.order_service.event.ProductChangedEvent;
+import com.example.order_service.util.CsvReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 판매자 상품 일괄 등록.
+ * 업로드 스트림을 한 행씩 파싱/검증하고 일정 개수마다 JDBC 배치 UPSERT로 저장하므로 파일 크기와 무관하게 힙 사용량이 일정하다.
+ * (seller_id, seller_sku)가 같은 상품은 갱신되고, 배치마다 ProductChangedEvent를 한 번 발행해 카탈로그 파생 데이터를 갱신한다.
+ * 갱신 시 선택 항목(설명, 재고, 카테고리, 이미지, 상태)은 입력에 값이 있을 때만 바꾸고, 없으면 기존 값을 유지한다.
+ * 읽는 도중 스트림 오류가 나거나 배치 저장이 실패하면 나머지 행은 처리하지 않고,
+ * 그 전까지 커밋된 결과와 함께 fatalError를 채워 반환한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductImportService {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");
+
+    // 재고와 상태는 새 행에만 기본값(0, ACTIVE)을 쓰고, 갱신 시에는 입력 값(12, 13번 파라미터)이 없으면 기존 값을 유지
+    private static final String UPSERT_SQL =
+            "INSERT INTO products (seller_id, seller_sku, name, description, price, stock_quantity, " +
+            "category, image_url, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, COALESCE(?, 0), ?, ?, COALESCE(?, 'ACTIVE'), ?, ?) " +
+            "ON DUPLICATE KEY UPDATE name = VALUES(name), description = COALESCE(VALUES(description), description), " +
+            "price = VALUES(price), stock_quantity = COALESCE(?, stock_quantity), " +
+            "category = COALESCE(VALUES(category), category), image_url = COALESCE(VALUES(image_url), image_url), " +
+            "status = COALESCE(?, status), updated_at = VALUES(updated_at)";
+
+    private static final String SELECT_IDS_SQL =
+            "SELECT id FROM products WHERE seller_id = :sellerId AND seller_sku IN (:skus)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final CatalogChangeSequence changeSequence;
+
+    @Value("${app.import.batch-size:1000}")
+    private int batchSize;
+
+    public ProductImportResult importProducts(User seller, InputStream input, Format format) {
+        long startTime = System.currentTimeMillis();
+        ProductImportResult result = new ProductImportResult();
+        List<ProductImportRow> batch = new ArrayList<>(batchSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        try {
+            if (format == Format.CSV) {
+                readCsv(reader, seller, result, batch);
+            } else {
+                readNdjson(reader, seller, result, batch);
+            }
+        } catch (IOException e) {
+            // 이전 배치는 이미 커밋되었으므로 예외로 버리지 않고 처리 결과와 함께 알림
+            result.setFatalError(e.getMessage() != null ? e.getMessage() : "업로드 파일을 읽는 중 오류가 발생했습니다.");
+            log.warn("Product import stopped by read error: sellerId={}, processed={}, error={}",
+                    seller.getId(), result.getProcessed(), e.getMessage());
+        }
+        // 오류 전까지 검증을 통과한 행도 저장
+        flush(seller, batch, result);
+
+        log.info("Product import finished: sellerId={}, processed={}, imported={}, failed={}, took={}ms",
+                seller.getId(), result.getProcessed(), result.getImported(), result.getFailed(),
+                System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    private void readCsv(BufferedReader reader, User seller, ProductImportResult result,
+                         List<ProductImportRow> batch) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // 엑셀에서 저장한 UTF-8 CSV의 BOM 제거
+            columns.put(header.get(i).replace("\uFEFF", "").trim(), i);
+        }
+        if (!columns.containsKey("sku") || !columns.containsKey("name") || !columns.containsKey("price")) {
+            throw new IllegalArgumentException("CSV 헤더에 sku, name, price 컬럼이 필요합니다.");
+        }
+
+        List<String> fields;
+        while (result.getFatalError() == null && (fields = csv.next()) != null) {
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            long line = csv.getRecordLineNumber();
+            result.setProcessed(result.getProcessed() + 1);
+            try {
+                ProductImportRow row = new ProductImportRow();
+                row.setSku(field(fields, columns, "sku"));
+                row.setName(field(fields, columns, "name"));
+                row.setDescription(field(fields, columns, "description"));
+                row.setCategory(field(fields, columns, "category"));
+                row.setImageUrl(field(fields, columns, "imageUrl"));
+                row.setStatus(field(fields, columns, "status"));
+                String price = field(fields, columns, "price");
+                row.setPrice(price != null ? new BigDecimal(price) : null);
+                String stock = field(fields, columns, "stockQuantity");
+                row.setStockQuantity(stock != null ? Integer.valueOf(stock) : null);
+                accept(row, line, seller, result, batch);
+            } catch (NumberFormatException e) {
+                reject(result, line, "가격 또는 재고 수량 형식이 올바르지 않습니다.");
+            }
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, User seller, ProductImportResult result,
+                            List<ProductImportRow> batch) throws IOException {
+        long line = 0;
+        String text;
+        while (result.getFatalError() == null && (text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            result.setProcessed(result.getProcessed() + 1);
+            try {
+                accept(objectMapper.readValue(text, ProductImportRow.class), line, seller, result, batch);
+            } catch (IOException e) {
+                reject(result, line, "JSON 형식이 올바르지 않습니다.");
+            }
+        }
+    }
+
+    private void accept(ProductImportRow row, long line, User seller, ProductImportResult result,
+                        List<ProductImportRow> batch) {
+        String error = validate(row);
+        if (error != null) {
+            reject(result, line, error);
+            return;
+        }
+        batch.add(row);
+        if (batch.size() >= batchSize) {
+            flush(seller, batch, result);
+        }
+    }
+
+    private void flush(User seller, List<ProductImportRow> batch, ProductImportResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(), new ParameterizedPreparedStatementSetter<>() {
+                    @Override
+                    public void setValues(PreparedStatement ps, ProductImportRow row) throws SQLException {
+                        ps.setLong(1, seller.getId());
+                        ps.setString(2, row.getSku());
+                        ps.setString(3, row.getName());
+                        ps.setString(4, row.getDescription());
+                        ps.setBigDecimal(5, row.getPrice());
+                        ps.setObject(6, row.getStockQuantity(), Types.INTEGER);
+                        ps.setString(7, row.getCategory());
+                        ps.setString(8, row.getImageUrl());
+                        ps.setString(9, row.getStatus());
+                        ps.setTimestamp(10, now);
+                        ps.setTimestamp(11, now);
+                        ps.setObject(12, row.getStockQuantity(), Types.INTEGER);
+                        ps.setString(13, row.getStatus());
+                    }
+                });
+
+                List<Long> productIds = namedParameterJdbcTemplate.queryForList(SELECT_IDS_SQL,
+                        new MapSqlParameterSource()
+                                .addValue("sellerId", seller.getId())
+                                .addValue("skus", batch.stream().map(ProductImportRow::getSku).toList()),
+                        Long.class);
+                // 엔티티 콜백을 거치지 않으므로 같은 트랜잭션에서 변경 순번을 직접 기록
+                changeSequence.record(productIds);
+                // 커밋 후 캐시 무효화/검색 인덱스 갱신이 배치 단위로 한 번에 처리됨
+                eventPublisher.publishEvent(new ProductChangedEvent(productIds, ProductChangedEvent.ChangeType.UPDATED));
+            });
+        } catch (DataAccessException | TransactionException e) {
+            // 이 배치만 롤백되고 이전 배치는 이미 커밋되었으므로 읽기 오류와 같이 처리 결과와 함께 알림
+            result.setFatalError("상품 저장 중 오류가 발생해 " + result.getProcessed() + "번째 행까지 처리하고 중단했습니다. "
+                    + "그 전까지 " + result.getImported() + "건이 저장되었습니다.");
+            log.error("Product import stopped by write error: sellerId={}, processed={}, imported={}",
+                    seller.getId(), result.getProcessed(), result.getImported(), e);
+            batch.clear();
+            return;
+        }
+
+        result.setImported(result.getImported() + batch.size());
+        batch.clear();
+    }
+
+    private static String validate(ProductImportRow row) {
+        if (isBlank(row.getSku()) || row.getSku().length() > 64) {
+            return "sku는 1~64자여야 합니다.";
+        }
+        if (isBlank(row.getName()) || row.getName().length() > 255) {
+            return "상품명은 1~255자여야 합니다.";
+        }
+        if (row.getDescription() != null && row.getDescription().length() > 1000) {
+            return "상품 설명은 1000자 이하여야 합니다.";
+        }
+        if (row.getPrice() == null || row.getPrice().signum() < 0 || row.getPrice().compareTo(MAX_PRICE) > 0
+                || row.getPrice().scale() > 2) {
+            return "가격은 0 이상 99999999.99 이하, 소수점 둘째 자리까지 입력해야 합니다.";
+        }
+        if (row.getStockQuantity() != null && row.getStockQuantity() < 0) {
+            return "재고 수량은 0 이상이어야 합니다.";
+        }
+        if (row.getImageUrl() != null && row.getImageUrl().length() > 255) {
+            return "이미지 URL은 255자 이하여야 합니다.";
+        }
+        if (row.getCategory() != null && row.getCategory().length() > 255) {
+            return "카테고리는 255자 이하여야 합니다.";
+        }
+        if (row.getStatus() != null) {
+            try {
+                row.setStatus(Product.ProductStatus.valueOf(row.getStatus().trim().toUpperCase(Locale.ROOT)).name());
+            } catch (IllegalArgumentException e) {
+                return "상태는 ACTIVE, INACTIVE, OUT_OF_STOCK 중 하나여야 합니다.";
+            }
+        }
+        row.setSku(row.getSku().trim());
+        row.setName(row.getName().trim());
+        return null;
+    }
+
+    private static void reject(ProductImportResult result, long line, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new ProductImportResult.RowError(line, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
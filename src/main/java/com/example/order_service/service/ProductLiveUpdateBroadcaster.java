@@ -0,0 +1,313 @@
+package com.example.order_service.service;
+
+import com.example.order_service.dto.ProductLiveUpdate;
+import com.example.order_service.event.ProductChangedEvent;
+import com.example.order_service.exception.TooManyRequestsException;
+import com.example.order_service.repository.ProductRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 페이지에 가격/재고 변경을 SSE로 밀어 주는 노드 단위 브로드캐스터.
+ * 다른 노드의 변경도 ProductChangeRelay가 remote 이벤트로 다시 발행하므로 Redis pub/sub을 따로 구독하지 않는다.
+ * 변경된 상품 ID는 flush 주기 동안 모았다가 구독자가 있는 상품만 한 번의 IN 쿼리로 읽어,
+ * 상품당 주기마다 최대 한 번, 한 번 직렬화한 이벤트를 모든 구독자에게 보낸다.
+ * 연결 중 놓친 변경은 다시 보내지 않으므로 클라이언트는 재연결 시 일반 조회 API로 현재 값을 다시 읽어야 한다.
+ * <p>
+ * 이벤트는 연결마다 크기가 제한된 큐에 넣고 fan-out 스레드가 연결별로 비운다. 받는 속도가 느려 큐가 가득 찬 연결은
+ * 이벤트를 더 쌓지 않고 닫으므로, 느린 클라이언트가 메모리를 계속 잡거나 flush 스케줄러를 막지 않는다.
+ * 한 클라이언트(원격 주소)가 열 수 있는 연결 수도 제한한다. 프록시 뒤에서는 server.forward-headers-strategy 설정에 따라
+ * X-Forwarded-For의 클라이언트 주소가 원격 주소가 된다.
+ */
+@Component
+@Slf4j
+public class ProductLiveUpdateBroadcaster implements DisposableBean {
+
+    public static final int MAX_PRODUCTS_PER_CONNECTION = 50;
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT =
+            SseEmitter.event().comment("ping").build();
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService fanoutExecutor;
+    private final Counter droppedConnections;
+
+    // 연결 하나. 큐는 draining을 가진 스레드 하나만 비우므로 같은 연결에 대한 send가 겹치지 않음
+    private static final class Subscription {
+        final SseEmitter emitter;
+        final List<Long> productIds;
+        final String clientKey;
+        final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+        final AtomicInteger queued = new AtomicInteger();
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean closed;
+
+        Subscription(SseEmitter emitter, List<Long> productIds, String clientKey) {
+            this.emitter = emitter;
+            this.productIds = productIds;
+            this.clientKey = clientKey;
+        }
+    }
+
+    // 상품 ID -> 구독 목록
+    private final Map<Long, Set<Subscription>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Subscription> connections = ConcurrentHashMap.newKeySet();
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    // 클라이언트 키 -> 열린 연결 수
+    private final Map<String, AtomicInteger> connectionsPerClient = new ConcurrentHashMap<>();
+
+    @Value("${app.catalog.live.max-connections:50000}")
+    private int maxConnections;
+
+    @Value("${app.catalog.live.max-connections-per-client:10}")
+    private int maxConnectionsPerClient;
+
+    @Value("${app.catalog.live.max-queued-events:64}")
+    private int maxQueuedEvents;
+
+    @Value("${app.catalog.live.timeout-msec:1800000}")
+    private long timeoutMillis;
+
+    public ProductLiveUpdateBroadcaster(ProductRepository productRepository,
+                                        ObjectMapper objectMapper,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${app.catalog.live.fanout-threads:4}") int fanoutThreads) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.fanoutExecutor = Executors.newFixedThreadPool(fanoutThreads, runnable -> {
+            Thread thread = new Thread(runnable, "live-update-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gauge("catalog.live.connections", connectionCount);
+        meterRegistry.gauge("catalog.live.products", subscribers, Map::size);
+        this.droppedConnections = meterRegistry.counter("catalog.live.dropped");
+    }
+
+    /**
+     * 상품 ID 목록을 구독하는 SSE 연결을 만든다.
+     * 노드의 최대 연결 수나 클라이언트별 최대 연결 수를 넘으면 TooManyRequestsException.
+     */
+    public SseEmitter subscribe(List<Long> productIds, String clientKey) {
+        AtomicInteger clientConnections = connectionsPerClient.compute(clientKey, (key, count) -> {
+            AtomicInteger next = count != null ? count : new AtomicInteger();
+            next.incrementAndGet();
+            return next;
+        });
+        if (clientConnections.get() > maxConnectionsPerClient) {
+            releaseClient(clientKey);
+            throw new TooManyRequestsException("같은 클라이언트의 실시간 연결이 너무 많습니다.", 30);
+        }
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            releaseClient(clientKey);
+            throw new TooManyRequestsException("실시간 연결이 너무 많습니다. 잠시 후 다시 시도해주세요.", 5);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscription subscription = new Subscription(emitter, List.copyOf(productIds), clientKey);
+        connections.add(subscription);
+        // 마지막 구독자가 빠지며 집합을 지우는 unsubscribe와 같은 키 잠금 안에서 추가해야 지워진 집합에 들어가지 않음
+        for (Long productId : subscription.productIds) {
+            subscribers.compute(productId, (id, set) -> {
+                Set<Subscription> next = set != null ? set : ConcurrentHashMap.newKeySet();
+                next.add(subscription);
+                return next;
+            });
+        }
+
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(e -> unsubscribe(subscription));
+        return emitter;
+    }
+
+    // 로컬 변경과 다른 노드에서 전달된 변경 모두 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        for (Long productId : event.productIds()) {
+            if (subscribers.containsKey(productId)) {
+                changed.add(productId);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.catalog.live.flush-interval-msec:1000}")
+    public void flush() {
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        List<Long> productIds = new ArrayList<>(changed.size());
+        for (Long productId : changed) {
+            if (changed.remove(productId) && subscribers.containsKey(productId)) {
+                productIds.add(productId);
+            }
+        }
+
+        Map<Long, ProductLiveUpdate> updates = new HashMap<>();
+        for (int i = 0; i < productIds.size(); i += LOAD_BATCH_SIZE) {
+            productRepository.findLiveUpdatesByIdIn(productIds.subList(i, Math.min(productIds.size(), i + LOAD_BATCH_SIZE)))
+                    .forEach(update -> updates.put(update.getProductId(), update));
+        }
+
+        int delivered = 0;
+        for (Long productId : productIds) {
+            Set<Subscription> targets = subscribers.get(productId);
+            if (targets == null) {
+                continue;
+            }
+            ProductLiveUpdate update = updates.get(productId);
+            Set<ResponseBodyEmitter.DataWithMediaType> message;
+            try {
+                // 이벤트는 상품당 한 번만 직렬화해 모든 구독자에게 같은 문자열을 보냄
+                message = update != null
+                        ? SseEmitter.event().name("product").data(objectMapper.writeValueAsString(update)).build()
+                        : SseEmitter.event().name("removed").data("{\"productId\":" + productId + "}").build();
+            } catch (JsonProcessingException e) {
+                log.warn("Failed to serialize live update: productId={}, error={}", productId, e.getMessage());
+                continue;
+            }
+            for (Subscription subscription : targets) {
+                enqueue(subscription, message);
+                delivered++;
+            }
+        }
+        log.debug("Live updates flushed: products={}, deliveries={}", productIds.size(), delivered);
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 종료를 막고, 끊긴 연결을 정리
+    @Scheduled(fixedDelayString = "${app.catalog.live.heartbeat-interval-msec:30000}")
+    public void heartbeat() {
+        for (Subscription subscription : connections) {
+            enqueue(subscription, HEARTBEAT);
+        }
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        fanoutExecutor.shutdownNow();
+        connections.forEach(subscription -> subscription.emitter.complete());
+    }
+
+    private void enqueue(Subscription subscription, Set<ResponseBodyEmitter.DataWithMediaType> message) {
+        if (subscription.closed) {
+            return;
+        }
+        if (subscription.queued.incrementAndGet() > maxQueuedEvents) {
+            // 받는 속도가 보내는 속도를 못 따라가는 연결은 이벤트를 버리고 닫음. 클라이언트는 재연결 후 현재 값을 다시 읽음
+            subscription.queued.decrementAndGet();
+            droppedConnections.increment();
+            close(subscription);
+            return;
+        }
+        subscription.queue.offer(message);
+        if (subscription.draining.compareAndSet(false, true)) {
+            fanoutExecutor.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        do {
+            Set<ResponseBodyEmitter.DataWithMediaType> message;
+            while ((message = subscription.queue.poll()) != null) {
+                subscription.queued.decrementAndGet();
+                if (subscription.closed || !send(subscription, message)) {
+                    finish(subscription);
+                    return;
+                }
+            }
+            subscription.draining.set(false);
+            // 비운 직후 들어온 이벤트가 있으면 다른 스레드가 시작하지 않았을 때만 이어서 처리
+        } while (!subscription.queue.isEmpty() && subscription.draining.compareAndSet(false, true));
+
+        if (subscription.closed && subscription.draining.compareAndSet(false, true)) {
+            finish(subscription);
+        }
+    }
+
+    private boolean send(Subscription subscription, Set<ResponseBodyEmitter.DataWithMediaType> message) {
+        try {
+            subscription.emitter.send(message);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 이미 끊긴 연결이므로 바로 정리
+            unsubscribe(subscription);
+            return false;
+        }
+    }
+
+    // 더 이상 이벤트를 받지 않게 하고, 진행 중인 send가 없을 때 fan-out 스레드에서 연결을 닫음.
+    // emitter는 send와 complete를 같은 잠금으로 보호하므로 막힌 send를 기다리느라 호출한 스레드가 멈추지 않게 함
+    private void close(Subscription subscription) {
+        subscription.closed = true;
+        unsubscribe(subscription);
+        if (subscription.draining.compareAndSet(false, true)) {
+            fanoutExecutor.execute(() -> finish(subscription));
+        }
+    }
+
+    // draining을 가진 스레드에서만 호출. draining은 돌려놓지 않으므로 이후 다른 스레드가 이 연결에 쓰지 않음
+    private void finish(Subscription subscription) {
+        subscription.closed = true;
+        subscription.queue.clear();
+        subscription.queued.set(0);
+        try {
+            subscription.emitter.complete();
+        } catch (Exception e) {
+            log.debug("Failed to complete live update connection: {}", e.getMessage());
+        }
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        if (!connections.remove(subscription)) {
+            return;
+        }
+        subscription.closed = true;
+        connectionCount.decrementAndGet();
+        releaseClient(subscription.clientKey);
+        for (Long productId : subscription.productIds) {
+            subscribers.computeIfPresent(productId, (id, set) -> {
+                set.remove(subscription);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    private void releaseClient(String clientKey) {
+        connectionsPerClient.computeIfPresent(clientKey, (key, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+}
@@ -0,0 +1,380 @@
+package com.example.order_service.service;
+
+import com.example.order_service.dto.ProductDTO;
+import com.example.order_service.event.ProductChangedEvent;
+import com.example.order_service.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.DisjunctionMaxQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 상품 이름/설명/카테고리에 대한 내장 Lucene 전문 검색 인덱스.
+ * 한국어 형태소 분석(nori)과 편집 거리 1의 오타 허용 검색을 지원한다.
+ * 시작 시 상품 테이블을 ID 순으로 스트리밍해 백그라운드에서 재구축하고, 이후에는 ProductChangedEvent로 증분 반영한다.
+ * 재구축이 끝나기 전의 검색은 DB LIKE 검색으로 대신 응답한다(형태소 분석/오타 허용 없음).
+ * 인덱스 디렉터리를 지정하지 않으면 인스턴스마다 전용 임시 디렉터리를 만들고 종료 시 삭제한다.
+ * 인덱스에는 상품 ID만 저장하고, 결과 상품 정보는 DB에서 한 번에 조회해 가격/재고가 항상 최신이 되게 한다.
+ */
+@Component
+@Slf4j
+public class ProductSearchIndex implements DisposableBean {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+    private static final int MAX_QUERY_TERMS = 10;
+    private static final int MAX_RESULT_WINDOW = 1000;
+    private static final int FUZZY_MIN_TERM_LENGTH = 3;
+    private static final float FUZZY_BOOST = 0.5f;
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_CATEGORY = "category";
+    private static final String FIELD_PRICE = "price";
+    private static final String FIELD_CREATED_AT = "createdAt";
+
+    // 이름 일치가 설명 일치보다 관련도에 크게 기여하도록 가중치 부여
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            FIELD_NAME, 3.0f,
+            FIELD_CATEGORY, 2.0f,
+            FIELD_DESCRIPTION, 1.0f
+    );
+
+    public enum SortOrder {
+        RELEVANCE(null, "createdAt", Direction.DESC),
+        PRICE_ASC(new Sort(new SortField(FIELD_PRICE, SortField.Type.LONG)), "price", Direction.ASC),
+        PRICE_DESC(new Sort(new SortField(FIELD_PRICE, SortField.Type.LONG, true)), "price", Direction.DESC),
+        NEWEST(new Sort(new SortField(FIELD_CREATED_AT, SortField.Type.LONG, true)), "createdAt", Direction.DESC);
+
+        private final Sort sort;
+        // 인덱스 준비 전 DB 검색에서 쓰는 정렬 (관련도 정렬은 최신순으로 대신함)
+        private final String fallbackProperty;
+        private final Direction fallbackDirection;
+
+        SortOrder(Sort sort, String fallbackProperty, Direction fallbackDirection) {
+            this.sort = sort;
+            this.fallbackProperty = fallbackProperty;
+            this.fallbackDirection = fallbackDirection;
+        }
+
+        public static SortOrder from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + value);
+            }
+        }
+    }
+
+    private final ProductRepository productRepository;
+    private final String configuredIndexDir;
+    private final Analyzer analyzer = new KoreanAnalyzer();
+
+    private Path indexPath;
+    private boolean temporaryIndexPath;
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    private volatile boolean dirty;
+    private volatile boolean ready;
+    // 재구축 중 변경된 상품 ID. 재구축이 읽은 이전 값이 최신 값을 덮어쓰지 않도록 끝난 뒤 다시 반영
+    private volatile Set<Long> changedDuringBuild;
+
+    public ProductSearchIndex(ProductRepository productRepository,
+                              @Value("${app.search.index-dir:}") String indexDir) {
+        this.productRepository = productRepository;
+        this.configuredIndexDir = indexDir;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        // 인덱스는 시작할 때마다 새로 만들므로(CREATE) 여러 인스턴스가 같은 경로를 쓰지 않도록 기본값은 전용 임시 디렉터리
+        if (configuredIndexDir == null || configuredIndexDir.isBlank()) {
+            this.indexPath = Files.createTempDirectory("order-service-search-");
+            this.temporaryIndexPath = true;
+        } else {
+            this.indexPath = Path.of(configuredIndexDir);
+        }
+        this.directory = new MMapDirectory(indexPath);
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    // 재구축은 상품 수에 비례해 오래 걸리므로 시작을 막지 않고 별도 스레드에서 수행
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRebuild() {
+        this.changedDuringBuild = ConcurrentHashMap.newKeySet();
+        Thread thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                this.changedDuringBuild = null;
+                log.error("Failed to build product search index, searches stay on the DB fallback", e);
+            }
+        }, "product-search-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void rebuild() throws IOException {
+        long startTime = System.currentTimeMillis();
+        if (this.changedDuringBuild == null) {
+            this.changedDuringBuild = ConcurrentHashMap.newKeySet();
+        }
+
+        long indexed = 0;
+        Long lastId = 0L;
+        List<ProductDTO> batch;
+        do {
+            batch = productRepository.findDtosAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            for (ProductDTO product : batch) {
+                writer.updateDocument(new Term(FIELD_ID, product.getId().toString()), toDocument(product));
+                lastId = product.getId();
+            }
+            indexed += batch.size();
+        } while (batch.size() == BUILD_BATCH_SIZE);
+
+        Set<Long> changed = this.changedDuringBuild;
+        this.changedDuringBuild = null;
+        if (!changed.isEmpty()) {
+            reindex(List.copyOf(changed));
+        }
+
+        writer.commit();
+        searcherManager.maybeRefresh();
+        this.ready = true;
+        log.info("Product search index built: products={}, replayed={}, took={}ms",
+                indexed, changed.size(), System.currentTimeMillis() - startTime);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        try {
+            Set<Long> pending = this.changedDuringBuild;
+            if (pending != null) {
+                pending.addAll(event.productIds());
+            }
+            if (event.type() == ProductChangedEvent.ChangeType.DELETED) {
+                for (Long productId : event.productIds()) {
+                    writer.deleteDocuments(new Term(FIELD_ID, productId.toString()));
+                }
+                dirty = true;
+            } else {
+                reindex(event.productIds());
+            }
+        } catch (IOException e) {
+            log.error("Failed to update product search index: products={}", event.productIds(), e);
+        }
+    }
+
+    // 변경 이벤트마다 리더를 다시 열지 않고 짧은 주기로 모아서 반영
+    @Scheduled(fixedDelayString = "${app.search.refresh-interval-msec:500}")
+    public void refresh() throws IOException {
+        if (dirty) {
+            dirty = false;
+            searcherManager.maybeRefresh();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색어에 맞는 상품을 조회한다. 결과 창은 최대 MAX_RESULT_WINDOW건까지만 허용한다.
+     */
+    public List<ProductDTO> search(String text, SortOrder order, int page, int size) {
+        long offset = (long) page * size;
+        long window = offset + size;
+        if (page < 0 || size <= 0 || window > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("검색 결과는 최대 " + MAX_RESULT_WINDOW + "건까지 조회할 수 있습니다.");
+        }
+        if (!ready) {
+            return searchDatabase(text, order, page, size);
+        }
+
+        List<Long> ids = new ArrayList<>();
+        try {
+            Query query = buildQuery(text);
+            if (query == null) {
+                return List.of();
+            }
+
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = order.sort == null
+                        ? searcher.search(query, (int) window)
+                        : searcher.search(query, (int) window, order.sort);
+                StoredFields storedFields = searcher.storedFields();
+                for (int i = (int) offset; i < topDocs.scoreDocs.length; i++) {
+                    ids.add(Long.valueOf(storedFields.document(topDocs.scoreDocs[i].doc).get(FIELD_ID)));
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("검색 중 오류가 발생했습니다.", e);
+        }
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProductDTO> byId = productRepository.findDtosByIdIn(ids).stream()
+                .collect(Collectors.toMap(ProductDTO::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private List<ProductDTO> searchDatabase(String text, SortOrder order, int page, int size) {
+        String keyword = text.trim();
+        if (keyword.isEmpty()) {
+            return List.of();
+        }
+        String pattern = "%" + keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+        return productRepository.findDtosByKeyword(pattern, PageRequest.of(page, size,
+                org.springframework.data.domain.Sort.by(order.fallbackDirection, order.fallbackProperty, "id")));
+    }
+
+    private void reindex(List<Long> productIds) throws IOException {
+        for (int i = 0; i < productIds.size(); i += BUILD_BATCH_SIZE) {
+            List<Long> chunk = productIds.subList(i, Math.min(productIds.size(), i + BUILD_BATCH_SIZE));
+            Map<Long, ProductDTO> products = productRepository.findDtosByIdIn(chunk).stream()
+                    .collect(Collectors.toMap(ProductDTO::getId, Function.identity()));
+            for (Long productId : chunk) {
+                Term idTerm = new Term(FIELD_ID, productId.toString());
+                ProductDTO product = products.get(productId);
+                if (product != null) {
+                    writer.updateDocument(idTerm, toDocument(product));
+                } else {
+                    writer.deleteDocuments(idTerm);
+                }
+            }
+        }
+        dirty = true;
+    }
+
+    private Query buildQuery(String text) throws IOException {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        // 각 검색어는 반드시 일치해야 하고, 필드별 정확 일치/오타 허용 일치 중 가장 높은 점수를 사용
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String term : terms) {
+            List<Query> alternatives = new ArrayList<>();
+            FIELD_BOOSTS.forEach((field, boost) -> {
+                alternatives.add(new BoostQuery(new TermQuery(new Term(field, term)), boost));
+                if (term.length() >= FUZZY_MIN_TERM_LENGTH) {
+                    alternatives.add(new BoostQuery(new FuzzyQuery(new Term(field, term), 1, 1), boost * FUZZY_BOOST));
+                }
+            });
+            builder.add(new DisjunctionMaxQuery(alternatives, 0.1f), BooleanClause.Occur.MUST);
+        }
+        return builder.build();
+    }
+
+    private List<String> analyze(String text) throws IOException {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(FIELD_NAME, text)) {
+            CharTermAttribute termAttribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                String term = termAttribute.toString();
+                if (!terms.contains(term)) {
+                    terms.add(term);
+                }
+            }
+            stream.end();
+        }
+        return terms;
+    }
+
+    private static Document toDocument(ProductDTO product) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, product.getId().toString(), Field.Store.YES));
+        document.add(new TextField(FIELD_NAME, nullToEmpty(product.getName()), Field.Store.NO));
+        document.add(new TextField(FIELD_DESCRIPTION, nullToEmpty(product.getDescription()), Field.Store.NO));
+        document.add(new TextField(FIELD_CATEGORY, nullToEmpty(product.getCategory()), Field.Store.NO));
+        // 가격은 원 단위 소수 2자리를 정수로 바꿔 정렬용 DocValues로 저장
+        document.add(new NumericDocValuesField(FIELD_PRICE,
+                product.getPrice() != null ? product.getPrice().movePointRight(2).longValue() : 0L));
+        document.add(new NumericDocValuesField(FIELD_CREATED_AT,
+                product.getCreatedAt() != null ? product.getCreatedAt().toEpochSecond(ZoneOffset.UTC) : 0L));
+        return document;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+        if (temporaryIndexPath) {
+            try (Stream<Path> paths = Files.walk(indexPath)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.order_service.service;
+
+import com.example.order_service.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 소셜 로그인 시 변경된 이름/프로필 이미지를 모아 주기적으로 한 트랜잭션에서 반영한다.
+ * 같은 사용자의 변경이 여러 번 들어오면 마지막 값만 기록한다.
+ * 로그인 값이 DB와 같더라도 그 사용자의 쓰기가 대기 중이거나 반영 중이면 그 값으로 덮어써, 이전 로그인의 값이 나중에 반영되지 않게 한다.
+ */
+@Component
+@Slf4j
+public class ProfileRefreshBatcher {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter skippedWrites;
+    private final Counter coalescedWrites;
+    private final Counter appliedWrites;
+
+    private final Map<Long, PendingRefresh> pending = new ConcurrentHashMap<>();
+    // flush가 꺼내 가서 아직 커밋되지 않은 사용자
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private record PendingRefresh(String name, String profileImage) {
+    }
+
+    public ProfileRefreshBatcher(UserRepository userRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.skippedWrites = meterRegistry.counter("oauth2.profile.writes", "result", "skipped");
+        this.coalescedWrites = meterRegistry.counter("oauth2.profile.writes", "result", "coalesced");
+        this.appliedWrites = meterRegistry.counter("oauth2.profile.writes", "result", "applied");
+    }
+
+    /**
+     * 로그인 값이 DB 값과 같을 때 호출한다. 대기 중이거나 반영 중인 이전 값이 있으면 이 값으로 덮어쓴다.
+     */
+    public void recordUnchanged(Long userId, String name, String profileImage) {
+        PendingRefresh latest = new PendingRefresh(name, profileImage);
+        if (pending.computeIfPresent(userId, (id, queued) -> latest) != null) {
+            coalescedWrites.increment();
+            return;
+        }
+        if (inFlight.contains(userId)) {
+            enqueue(userId, name, profileImage);
+            return;
+        }
+        skippedWrites.increment();
+    }
+
+    public void enqueue(Long userId, String name, String profileImage) {
+        if (pending.put(userId, new PendingRefresh(name, profileImage)) != null) {
+            coalescedWrites.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.oauth2.profile-refresh.flush-interval-msec:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, PendingRefresh>> batch = new ArrayList<>();
+        for (Long userId : pending.keySet()) {
+            // 꺼내기 전에 표시해야 그 사이 로그인이 대기열과 반영 중 어느 쪽에서도 놓치지 않음
+            inFlight.add(userId);
+            PendingRefresh refresh = pending.remove(userId);
+            if (refresh != null) {
+                batch.add(Map.entry(userId, refresh));
+            } else {
+                inFlight.remove(userId);
+            }
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Integer updated = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (Map.Entry<Long, PendingRefresh> entry : batch) {
+                    count += userRepository.updateOAuth2Profile(
+                            entry.getKey(), entry.getValue().name(), entry.getValue().profileImage(), now);
+                }
+                return count;
+            });
+            // 대기 중 삭제된 사용자 등 실제로 갱신되지 않은 행은 세지 않음
+            appliedWrites.increment(updated != null ? updated : 0);
+            log.debug("Flushed OAuth2 profile refreshes: queued={}, updated={}", batch.size(), updated);
+        } catch (Exception e) {
+            // 실패한 항목은 더 최신 값이 들어오지 않았을 때만 다시 대기열에 넣음
+            batch.forEach(entry -> pending.putIfAbsent(entry.getKey(), entry.getValue()));
+            log.error("Failed to flush OAuth2 profile refreshes, will retry: size={}", batch.size(), e);
+        } finally {
+            batch.forEach(entry -> inFlight.remove(entry.getKey()));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
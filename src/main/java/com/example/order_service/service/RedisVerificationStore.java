@@ -0,0 +1,86 @@
+package com.example.order_service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 인증번호를 Redis 해시에 저장한다. 키는 TTL로 자동 만료되어 별도 정리 작업이 필요 없고,
+ * 비교와 시도 횟수 증가는 Lua 스크립트로 원자적으로 처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.mail.verification.store", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class RedisVerificationStore implements VerificationStore {
+
+    private static final String KEY_PREFIX = "verify:code:";
+
+    // KEYS[1]=인증 키, ARGV[1]=입력한 인증번호, ARGV[2]=최대 시도 횟수
+    // 1: 일치, 0: 불일치 또는 만료, -1: 시도 횟수 초과
+    private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>(
+            "local code = redis.call('HGET', KEYS[1], 'code') " +
+            "if not code then return 0 end " +
+            "local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1) " +
+            "if attempts > tonumber(ARGV[2]) then return -1 end " +
+            "if code ~= ARGV[1] then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'verified', '1') " +
+            "return 1",
+            Long.class);
+
+    // KEYS[1]=인증 키, ARGV[1]=인증번호. 일치할 때만 삭제
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'code') == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    // KEYS[1]=인증 키, ARGV[1]=인증번호, ARGV[2]=TTL(ms). 이전 코드 삭제, 저장, 만료 설정을 한 번에 처리해
+    // 중간에 실패해도 TTL 없는 키나 이전 시도 횟수가 남지 않음
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', '0', 'verified', '0') " +
+            "return redis.call('PEXPIRE', KEYS[1], ARGV[2])",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int maxAttempts;
+
+    public RedisVerificationStore(StringRedisTemplate redisTemplate,
+                                  @Value("${app.mail.verification.max-attempts:5}") int maxAttempts) {
+        this.redisTemplate = redisTemplate;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void saveCode(String email, String code, Duration ttl) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(KEY_PREFIX + email), code, String.valueOf(ttl.toMillis()));
+    }
+
+    @Override
+    public boolean verify(String email, String code) {
+        Long result = redisTemplate.execute(VERIFY_SCRIPT, List.of(KEY_PREFIX + email), code, String.valueOf(maxAttempts));
+
+        if (result != null && result < 0) {
+            log.warn("Verification attempts exceeded: email={}", email);
+            throw new RuntimeException("인증 시도 횟수를 초과했습니다. 인증번호를 다시 요청해주세요.");
+        }
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public boolean isVerified(String email, String code) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(KEY_PREFIX + email, List.of("code", "verified"));
+        return code.equals(values.get(0)) && "1".equals(values.get(1));
+    }
+
+    @Override
+    public void consume(String email, String code) {
+        redisTemplate.execute(CONSUME_SCRIPT, List.of(KEY_PREFIX + email), code);
+    }
+}
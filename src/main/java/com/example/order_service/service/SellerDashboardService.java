@@ -2,12 +2,15 @@ package com.example.order_service.service;
 
 import com.example.order_service.dto.DashboardStats;
 import com.example.order_service.dto.SellerDashboardStats;
+import com.example.order_service.dto.SellerProductDTO;
+import com.example.order_service.dto.SellerProductPage;
 import com.example.order_service.entity.Order;
 import com.example.order_service.entity.Product;
 import com.example.order_service.entity.User;
 import com.example.order_service.repository.OrderItemRepository;
 import com.example.order_service.repository.OrderRepository;
 import com.example.order_service.repository.ProductRepository;
+import com.example.order_service.util.ProductCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -17,6 +20,7 @@ import java.sql.Date;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,6 +32,30 @@ public class SellerDashboardService {
     private final ProductRepository productRepository;
     private final OrderItemRepository orderItemRepository;
 
+    /**
+     * 판매자 상품 목록 한 페이지. 한 행을 더 읽어 다음 페이지 존재 여부를 COUNT 없이 판단한다.
+     */
+    public SellerProductPage getSellerProducts(User seller, Product.ProductStatus status, String category,
+                                               Integer maxStock, ProductCursor.SortKey sortKey, boolean descending,
+                                               ProductCursor after, int limit) {
+        List<SellerProductDTO> rows = productRepository.findSellerProducts(
+                seller.getId(), status, category, maxStock, sortKey, descending, after, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<SellerProductDTO> content = hasNext ? new ArrayList<>(rows.subList(0, limit)) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            SellerProductDTO last = content.get(content.size() - 1);
+            Object lastValue = switch (sortKey) {
+                case CREATED_AT -> last.getCreatedAt();
+                case PRICE -> last.getPrice();
+                case STOCK_QUANTITY -> last.getStockQuantity();
+            };
+            nextCursor = new ProductCursor(sortKey, descending, lastValue, last.getId()).encode();
+        }
+        return new SellerProductPage(content, nextCursor);
+    }
+
     public SellerDashboardStats getSellerDashboardStats(User seller) {
         LocalDateTime today = LocalDate.now().atStartOfDay();
         LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
@@ -0,0 +1,89 @@
+package com.example.order_service.service;
+
+import com.example.order_service.entity.User;
+import com.example.order_service.exception.ConflictException;
+import com.example.order_service.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class UserProfileService {
+
+    private final UserRepository userRepository;
+    private final IdentityIndex identityIndex;
+
+    /**
+     * 프로필을 수정한다. 요청에 version이 있으면 현재 버전과 비교해 다른 곳에서 먼저 수정된 경우 충돌로 처리하고,
+     * 읽기와 쓰기 사이의 경합은 User의 @Version과 유니크 제약 위반으로 감지한다.
+     */
+    public User updateProfile(String identifier, Map<String, String> updates) {
+        // 이메일인지 사용자명인지 확인하여 사용자 조회
+        User user = (identifier.contains("@")
+                ? userRepository.findByEmail(identifier)
+                : userRepository.findByUsername(identifier))
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        String expectedVersion = updates.get("version");
+        if (expectedVersion != null && !expectedVersion.isEmpty()
+                && !String.valueOf(user.getVersion()).equals(expectedVersion)) {
+            throw new ConflictException("다른 곳에서 프로필이 변경되었습니다. 새로고침 후 다시 시도해주세요.");
+        }
+
+        // 이름 업데이트
+        if (updates.get("name") != null) {
+            String newName = updates.get("name").trim();
+            if (!newName.isEmpty()) {
+                user.setName(newName);
+            }
+        }
+
+        // 닉네임 업데이트 (본인 제외 중복 체크)
+        if (updates.get("nickname") != null) {
+            String newNickname = updates.get("nickname").trim();
+            if (!newNickname.isEmpty() && !newNickname.equals(user.getNickname())) {
+                if (userRepository.existsByNicknameAndIdNot(newNickname, user.getId())) {
+                    throw new RuntimeException("이미 사용 중인 닉네임입니다.");
+                }
+                user.setNickname(newNickname);
+            }
+        }
+
+        // 이메일 업데이트 (본인 제외 중복 체크)
+        if (updates.get("email") != null) {
+            String newEmail = updates.get("email").trim();
+            if (!newEmail.isEmpty() && !newEmail.equals(user.getEmail())) {
+                if (userRepository.existsByEmailAndIdNot(newEmail, user.getId())) {
+                    throw new RuntimeException("이미 사용 중인 이메일입니다.");
+                }
+                user.setEmail(newEmail);
+                user.setEmailVerified(false); // 이메일 변경 시 재인증 필요
+            }
+        }
+
+        User updatedUser;
+        try {
+            updatedUser = userRepository.saveAndFlush(user);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ConflictException("다른 곳에서 프로필이 변경되었습니다. 새로고침 후 다시 시도해주세요.");
+        } catch (DataIntegrityViolationException e) {
+            // 존재 확인과 저장 사이에 다른 사용자가 같은 값을 선점한 경우
+            throw new ConflictException("이미 사용 중인 닉네임 또는 이메일입니다.");
+        }
+
+        identityIndex.add(IdentityIndex.Field.NICKNAME, updatedUser.getNickname());
+        identityIndex.add(IdentityIndex.Field.EMAIL, updatedUser.getEmail());
+
+        log.info("User profile updated: id={}, name={}, nickname={}, version={}",
+                updatedUser.getId(), updatedUser.getName(), updatedUser.getNickname(), updatedUser.getVersion());
+        return updatedUser;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.order_service.service;
+
+import com.example.order_service.entity.EmailOutbox;
+import com.example.order_service.repository.EmailOutboxRepository;
+import com.example.order_service.repository.EmailVerificationRepository;
+import com.example.order_service.util.RedisLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 만료된 email_verifications 행과 보존 기간이 지난 발송 완료/실패 email_outbox 행을 주기적으로 삭제한다.
+ * 인덱스로 작은 청크씩 id를 찾아 삭제하고 청크 사이에 쉬어 테이블을 오래 잠그지 않으며,
+ * 테이블마다 Redis 락을 잡은 한 노드에서만 실행된다.
+ */
+@Component
+@Slf4j
+public class VerificationPurgeJob {
+
+    private static final String LOCK_NAME = "verification-purge";
+    private static final String OUTBOX_LOCK_NAME = "email-outbox-purge";
+    private static final List<EmailOutbox.OutboxStatus> FINISHED_STATUSES =
+            List.of(EmailOutbox.OutboxStatus.SENT, EmailOutbox.OutboxStatus.DEAD);
+
+    private final EmailVerificationRepository emailVerificationRepository;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final RedisLock redisLock;
+    private final Counter purgedRows;
+    private final Timer purgeTimer;
+    private final Counter purgedOutboxRows;
+    private final Timer outboxPurgeTimer;
+
+    @Value("${app.mail.verification.purge.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.mail.verification.purge.pause-msec:100}")
+    private long pauseMillis;
+
+    @Value("${app.mail.verification.purge.max-duration-msec:60000}")
+    private long maxDurationMillis;
+
+    @Value("${app.mail.outbox.retention-days:7}")
+    private long outboxRetentionDays;
+
+    public VerificationPurgeJob(EmailVerificationRepository emailVerificationRepository,
+                                EmailOutboxRepository emailOutboxRepository,
+                                RedisLock redisLock,
+                                MeterRegistry meterRegistry) {
+        this.emailVerificationRepository = emailVerificationRepository;
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.redisLock = redisLock;
+        this.purgedRows = meterRegistry.counter("verification.purge.rows");
+        this.purgeTimer = meterRegistry.timer("verification.purge.duration");
+        this.purgedOutboxRows = meterRegistry.counter("email.outbox.purge.rows");
+        this.outboxPurgeTimer = meterRegistry.timer("email.outbox.purge.duration");
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.verification.purge.interval-msec:600000}",
+               initialDelayString = "${app.mail.verification.purge.initial-delay-msec:60000}")
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        purgeInChunks(LOCK_NAME, "expired email verifications", purgedRows, purgeTimer,
+                pageable -> emailVerificationRepository.findExpiredIds(now, pageable),
+                emailVerificationRepository::deleteByIdIn);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.purge.interval-msec:3600000}",
+               initialDelayString = "${app.mail.verification.purge.initial-delay-msec:60000}")
+    public void purgeEmailOutbox() {
+        LocalDateTime before = LocalDateTime.now().minusDays(outboxRetentionDays);
+        purgeInChunks(OUTBOX_LOCK_NAME, "finished email outbox messages", purgedOutboxRows, outboxPurgeTimer,
+                pageable -> emailOutboxRepository.findFinishedIdsBefore(FINISHED_STATUSES, before, pageable),
+                emailOutboxRepository::deleteByIdIn);
+    }
+
+    private void purgeInChunks(String lockName, String description, Counter rows, Timer timer,
+                               Function<Pageable, List<Long>> findIds, ToIntFunction<List<Long>> deleteIds) {
+        // 최대 실행 시간보다 길게 잡아 실행 도중 다른 노드가 락을 가져가지 않게 함
+        String lockToken = redisLock.tryAcquire(lockName, Duration.ofMillis(maxDurationMillis * 2));
+        if (lockToken == null) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        long deleted = 0;
+        try {
+            List<Long> ids;
+            do {
+                ids = findIds.apply(PageRequest.of(0, chunkSize));
+                if (!ids.isEmpty()) {
+                    deleted += deleteIds.applyAsInt(ids);
+                    Thread.sleep(pauseMillis);
+                }
+            } while (ids.size() == chunkSize && System.currentTimeMillis() - startTime < maxDurationMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Failed to purge {}", description, e);
+        } finally {
+            long elapsed = System.currentTimeMillis() - startTime;
+            rows.increment(deleted);
+            timer.record(Duration.ofMillis(elapsed));
+            redisLock.release(lockName, lockToken);
+
+            if (deleted > 0) {
+                log.info("Purged {}: rows={}, took={}ms", description, deleted, elapsed);
+            }
+        }
+    }
+}
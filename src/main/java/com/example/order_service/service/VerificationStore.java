@@ -0,0 +1,28 @@
+package com.example.order_service.service;
+
+import java.time.Duration;
+
+/**
+ * 이메일 인증번호 저장소.
+ * app.mail.verification.store 값에 따라 Redis(기본) 또는 JPA(email_verifications) 구현이 사용된다.
+ */
+public interface VerificationStore {
+
+    /**
+     * 이메일의 기존 인증번호를 대체해 새 인증번호를 저장한다.
+     */
+    void saveCode(String email, String code, Duration ttl);
+
+    /**
+     * 인증번호가 일치하고 만료되지 않았으면 인증 완료로 표시하고 true를 반환한다.
+     * 시도 횟수 제한을 초과하면 RuntimeException을 던진다.
+     */
+    boolean verify(String email, String code);
+
+    boolean isVerified(String email, String code);
+
+    /**
+     * 회원가입에 사용된 인증번호를 더 이상 쓸 수 없게 한다.
+     */
+    void consume(String email, String code);
+}
@@ -0,0 +1,118 @@
+package com.example.order_service.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 CSV를 한 레코드씩 읽는 스트리밍 리더.
+ * 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이중 따옴표("")를 지원하며 파일 전체를 메모리에 올리지 않는다.
+ * 줄바꿈은 LF, CRLF, CR 모두 한 줄로 센다.
+ */
+public class CsvReader {
+
+    private static final int MAX_FIELD_LENGTH = 10_000;
+
+    private final Reader reader;
+    private int lineNumber = 1;
+    private int recordLineNumber;
+    private int pushedBack = -2;
+    private int previous = -1;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 레코드가 시작된 줄 번호 (1부터 시작).
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    /**
+     * 다음 레코드의 필드 목록을 반환한다. 입력이 끝나면 null.
+     */
+    public List<String> next() throws IOException {
+        int startLine = lineNumber;
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        recordLineNumber = startLine;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException(recordLineNumber + "번째 줄: 따옴표가 닫히지 않았습니다.");
+                }
+                if (c == '"') {
+                    int nextChar = read();
+                    if (nextChar == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = nextChar;
+                        continue;
+                    }
+                } else {
+                    append(field, c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int nextChar = read();
+                    if (nextChar != '\n') {
+                        unread(nextChar);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                append(field, c);
+            }
+            c = read();
+        }
+    }
+
+    private void append(StringBuilder field, int c) throws IOException {
+        if (field.length() >= MAX_FIELD_LENGTH) {
+            throw new IOException(recordLineNumber + "번째 줄: 필드가 너무 깁니다.");
+        }
+        field.append((char) c);
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushedBack != -2) {
+            c = pushedBack;
+            pushedBack = -2;
+        } else {
+            c = reader.read();
+        }
+        // CRLF는 CR에서 한 번만 셈
+        if (c == '\r' || (c == '\n' && previous != '\r')) {
+            lineNumber++;
+        }
+        previous = c;
+        return c;
+    }
+
+    // CR 뒤에 LF가 오는지 보려고 미리 읽은 문자를 되돌림. 다시 읽을 때 줄 번호를 세므로 여기서 되돌려 둠
+    private void unread(int c) {
+        if (c == '\r') {
+            lineNumber--;
+        }
+        previous = '\r';
+        pushedBack = c;
+    }
+}
@@ -10,18 +10,23 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String FAMILY_CLAIM = "fid";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final SecretKey key;
-    private final int jwtExpiration;
-    private final int refreshExpiration;
+    private final long jwtExpiration;
+    private final long refreshExpiration;
 
     public JwtTokenProvider(@Value("${app.auth.tokenSecret}") String jwtSecret,
-                            @Value("${app.auth.tokenExpirationMsec}") int jwtExpiration,
-                            @Value("${app.auth.tokenExpirationMsec}") int refreshExpiration) {
+                            @Value("${app.auth.tokenExpirationMsec}") long jwtExpiration,
+                            @Value("${app.auth.refreshTokenExpirationMsec:1209600000}") long refreshExpiration) {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
         this.jwtExpiration = jwtExpiration;
         this.refreshExpiration = refreshExpiration;
@@ -38,6 +43,7 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(System.currentTimeMillis() + jwtExpiration);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuedAt(new Date())
                 .expiration(expiryDate)
@@ -49,6 +55,7 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(System.currentTimeMillis() + jwtExpiration);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
                 .issuedAt(new Date())
                 .expiration(expiryDate)
@@ -56,25 +63,46 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String generateRefreshToken(String email) {
+    /**
+     * 리프레시 토큰은 토큰 패밀리(fid)와 토큰 ID(jti)를 함께 담는다.
+     * 회전/재사용 감지는 RefreshTokenStore가 이 두 값으로 수행한다.
+     */
+    public String generateRefreshToken(String email, String familyId, String tokenId) {
         Date expiryDate = new Date(System.currentTimeMillis() + refreshExpiration);
 
         return Jwts.builder()
+                .id(tokenId)
                 .subject(email)
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .claim(FAMILY_CLAIM, familyId)
                 .issuedAt(new Date())
                 .expiration(expiryDate)
                 .signWith(key)
                 .compact();
     }
 
-    public String getUserEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
+    public Claims getClaimsFromToken(String token) {
+        return Jwts.parser()
                 .verifyWith(key)
                 .build()
                 .parseSignedClaims(token)
                 .getPayload();
+    }
+
+    public String getUserEmailFromToken(String token) {
+        return getClaimsFromToken(token).getSubject();
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
 
-        return claims.getSubject();
+    public long getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
+    public long getAccessExpiration() {
+        return jwtExpiration;
     }
 
     public boolean validateToken(String authToken) {
@@ -97,12 +125,6 @@ public class JwtTokenProvider {
     }
 
     public Long getExpirationFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getExpiration().getTime();
+        return getClaimsFromToken(token).getExpiration().getTime();
     }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.example.order_service.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {name} 형태의 자리표시자를 가진 메일 템플릿.
+ * 생성 시 한 번만 파싱해 고정 문자열과 자리표시자 조각으로 나눠 두고,
+ * 수신자마다 render()에서는 조각을 이어 붙이기만 한다.
+ */
+public class MailTemplate {
+
+    private final List<String> literals = new ArrayList<>();
+    private final List<String> placeholders = new ArrayList<>();
+    private final int estimatedLength;
+
+    private MailTemplate(String template) {
+        int position = 0;
+        while (true) {
+            int open = template.indexOf('{', position);
+            int close = open >= 0 ? template.indexOf('}', open) : -1;
+            if (open < 0 || close < 0) {
+                literals.add(template.substring(position));
+                break;
+            }
+            literals.add(template.substring(position, open));
+            placeholders.add(template.substring(open + 1, close));
+            position = close + 1;
+        }
+        this.estimatedLength = template.length() + placeholders.size() * 16;
+    }
+
+    public static MailTemplate compile(String template) {
+        return new MailTemplate(template);
+    }
+
+    public String render(Map<String, String> values) {
+        StringBuilder sb = new StringBuilder(estimatedLength);
+        for (int i = 0; i < placeholders.size(); i++) {
+            sb.append(literals.get(i));
+            String value = values.get(placeholders.get(i));
+            sb.append(value != null ? value : "");
+        }
+        sb.append(literals.get(literals.size() - 1));
+        return sb.toString();
+    }
+}
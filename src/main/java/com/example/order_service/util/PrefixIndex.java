@@ -0,0 +1,210 @@
+package com.example.order_service.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 가중치가 있는 불변 접두사 검색 인덱스.
+ * 정렬된 키 배열에서 접두사 구간을 이진 탐색으로 찾고, 가중치 최댓값 세그먼트 트리로 구간 내 상위 k개를
+ * O(k log n)에 꺼낸다. 노드 객체를 만드는 트라이보다 메모리가 작고, 빌드 후에는 읽기 전용이라 동기화가 필요 없다.
+ */
+public final class PrefixIndex {
+
+    public record Suggestion(String text, String type) {
+    }
+
+    private final String[] keys;
+    private final Suggestion[] suggestions;
+    private final long[] weights;
+    // 구간별 최대 가중치 항목의 인덱스 (1-based 힙 배열)
+    private final int[] maxTree;
+    private final int size;
+
+    private PrefixIndex(String[] keys, Suggestion[] suggestions, long[] weights) {
+        this.keys = keys;
+        this.suggestions = suggestions;
+        this.weights = weights;
+        this.size = keys.length;
+        this.maxTree = new int[Math.max(2, 4 * size)];
+        if (size > 0) {
+            buildTree(1, 0, size - 1);
+        }
+    }
+
+    public static PrefixIndex empty() {
+        return new Builder().build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 접두사로 시작하는 항목 중 가중치가 높은 순으로 최대 limit개를 반환한다.
+     * 한 항목이 전체 문자열과 단어 시작 위치 여러 곳에서 함께 일치해도 한 번만 포함한다.
+     */
+    public List<Suggestion> lookup(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || size == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        int from = lowerBound(normalized);
+        int to = lowerBound(normalized + Character.MAX_VALUE) - 1;
+        if (from > to) {
+            return List.of();
+        }
+
+        // 후보 구간을 구간 최댓값 기준으로 꺼내고, 꺼낸 위치를 기준으로 좌우 구간을 다시 넣음
+        PriorityQueue<int[]> ranges = new PriorityQueue<>(
+                Comparator.comparingLong((int[] range) -> weights[range[2]]).reversed());
+        ranges.add(new int[]{from, to, queryMax(1, 0, size - 1, from, to)});
+
+        Set<Suggestion> results = new LinkedHashSet<>();
+        while (!ranges.isEmpty() && results.size() < limit) {
+            int[] range = ranges.poll();
+            int best = range[2];
+            results.add(suggestions[best]);
+            if (range[0] <= best - 1) {
+                ranges.add(new int[]{range[0], best - 1, queryMax(1, 0, size - 1, range[0], best - 1)});
+            }
+            if (best + 1 <= range[1]) {
+                ranges.add(new int[]{best + 1, range[1], queryMax(1, 0, size - 1, best + 1, range[1])});
+            }
+        }
+        return new ArrayList<>(results);
+    }
+
+    /**
+     * 인덱스가 차지하는 대략적인 힙 크기(바이트). 문자열은 Latin-1/UTF-16 압축 여부와 무관하게 UTF-16 기준으로 계산한다.
+     */
+    public long estimatedBytes() {
+        long bytes = 16L + (long) size * 8 + (long) maxTree.length * 4;
+        bytes += 16L + (long) size * 4 * 2;
+        Set<Suggestion> distinct = new LinkedHashSet<>(Arrays.asList(suggestions));
+        for (String key : keys) {
+            bytes += 40 + (long) key.length() * 2;
+        }
+        for (Suggestion suggestion : distinct) {
+            bytes += 24 + 40 + (long) suggestion.text().length() * 2;
+        }
+        return bytes;
+    }
+
+    private int lowerBound(String target) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(target) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void buildTree(int node, int left, int right) {
+        if (left == right) {
+            maxTree[node] = left;
+            return;
+        }
+        int mid = (left + right) >>> 1;
+        buildTree(node * 2, left, mid);
+        buildTree(node * 2 + 1, mid + 1, right);
+        maxTree[node] = heavier(maxTree[node * 2], maxTree[node * 2 + 1]);
+    }
+
+    private int queryMax(int node, int left, int right, int from, int to) {
+        if (from <= left && right <= to) {
+            return maxTree[node];
+        }
+        int mid = (left + right) >>> 1;
+        if (to <= mid) {
+            return queryMax(node * 2, left, mid, from, to);
+        }
+        if (from > mid) {
+            return queryMax(node * 2 + 1, mid + 1, right, from, to);
+        }
+        return heavier(queryMax(node * 2, left, mid, from, to), queryMax(node * 2 + 1, mid + 1, right, from, to));
+    }
+
+    private int heavier(int a, int b) {
+        return weights[b] > weights[a] ? b : a;
+    }
+
+    public static String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 항목을 모아 불변 인덱스를 만든다. 같은 텍스트는 전체 문자열과 각 단어 시작 위치로도 색인되어
+     * "프로"로 "맥북 프로"를 찾을 수 있다.
+     */
+    public static final class Builder {
+
+        private record Entry(String key, Suggestion suggestion, long weight) {
+        }
+
+        private final List<Entry> entries = new ArrayList<>();
+
+        public Builder add(String text, String type, long weight) {
+            String normalized = normalize(text);
+            if (normalized.isEmpty()) {
+                return this;
+            }
+
+            Suggestion suggestion = new Suggestion(text.trim(), type);
+            entries.add(new Entry(normalized, suggestion, weight));
+            for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+                if (i + 1 < normalized.length()) {
+                    entries.add(new Entry(normalized.substring(i + 1), suggestion, weight));
+                }
+            }
+            return this;
+        }
+
+        public int size() {
+            return entries.size();
+        }
+
+        /**
+         * 같은 키에 같은 항목(텍스트와 유형)이 여러 번 추가되었으면 가중치를 합쳐 한 항목으로 만든다.
+         * 이름이 같은 상품이 많아도 조회 구간에 중복이 쌓여 상위 k개를 꺼내는 비용이 커지지 않는다.
+         */
+        public PrefixIndex build() {
+            entries.sort(Comparator.comparing(Entry::key)
+                    .thenComparing(entry -> entry.suggestion().text())
+                    .thenComparing(entry -> entry.suggestion().type(), Comparator.nullsFirst(Comparator.naturalOrder())));
+            List<Entry> merged = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                int last = merged.size() - 1;
+                if (last >= 0 && merged.get(last).key().equals(entry.key())
+                        && merged.get(last).suggestion().equals(entry.suggestion())) {
+                    merged.set(last, new Entry(entry.key(), entry.suggestion(), merged.get(last).weight() + entry.weight()));
+                } else {
+                    merged.add(entry);
+                }
+            }
+
+            int count = merged.size();
+            String[] keys = new String[count];
+            Suggestion[] suggestions = new Suggestion[count];
+            long[] weights = new long[count];
+            for (int i = 0; i < count; i++) {
+                Entry entry = merged.get(i);
+                keys[i] = entry.key();
+                suggestions[i] = entry.suggestion();
+                weights[i] = entry.weight();
+            }
+            return new PrefixIndex(keys, suggestions, weights);
+        }
+    }
+}
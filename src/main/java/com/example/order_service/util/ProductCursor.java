@@ -0,0 +1,75 @@
+package com.example.order_service.util;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 상품 목록의 키셋(seek) 페이지네이션 커서.
+ * 마지막으로 본 행의 정렬 값과 ID를 담아 다음 페이지를 OFFSET 없이 인덱스에서 바로 이어 읽는다.
+ */
+public record ProductCursor(SortKey sortKey, boolean descending, Object value, Long id) {
+
+    /**
+     * 허용된 정렬 키. 공개 목록용 키는 (sort_column, id)와 (category, sort_column, id) 복합 인덱스를,
+     * 판매자 목록용 키는 (seller_id, sort_column, id)와 상태/카테고리 필터별 (seller_id, status|category, sort_column, id)
+     * 복합 인덱스를 가진다.
+     */
+    public enum SortKey {
+        CREATED_AT("createdAt"),
+        PRICE("price"),
+        STOCK_QUANTITY("stockQuantity");
+
+        private final String property;
+
+        SortKey(String property) {
+            this.property = property;
+        }
+
+        public String property() {
+            return property;
+        }
+
+        public static SortKey fromProperty(String property) {
+            for (SortKey key : values()) {
+                if (key.property.equals(property)) {
+                    return key;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + property);
+        }
+
+        Object parseValue(String raw) {
+            return switch (this) {
+                case CREATED_AT -> LocalDateTime.parse(raw);
+                case PRICE -> new BigDecimal(raw);
+                case STOCK_QUANTITY -> Integer.valueOf(raw);
+            };
+        }
+    }
+
+    public String encode() {
+        String raw = sortKey.property() + "|" + (descending ? "desc" : "asc") + "|" + value + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 해석한다. 커서가 요청의 정렬 조건과 다르게 만들어졌으면 거부한다.
+     */
+    public static ProductCursor decode(String encoded, SortKey sortKey, boolean descending) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4
+                    || !parts[0].equals(sortKey.property())
+                    || !parts[1].equals(descending ? "desc" : "asc")) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new ProductCursor(sortKey, descending, sortKey.parseValue(parts[2]), Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
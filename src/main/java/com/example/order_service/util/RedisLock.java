@@ -0,0 +1,53 @@
+package com.example.order_service.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 노드 중 한 곳에서만 작업을 실행하기 위한 Redis 락 (SET NX PX).
+ * 해제는 자신이 획득한 락일 때만 삭제하도록 토큰을 비교한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisLock {
+
+    private static final String KEY_PREFIX = "lock:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * @return 획득 시 해제에 사용할 토큰, 다른 노드가 보유 중이거나 Redis 장애 시 null
+     */
+    public String tryAcquire(String name, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, token, ttl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            log.warn("Failed to acquire lock {}: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    public void release(String name, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + name), token);
+        } catch (Exception e) {
+            log.warn("Failed to release lock {}: {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.order_service.repository;
+
+import com.example.order_service.dto.ProductDTO;
+import com.example.order_service.entity.Product;
+import com.example.order_service.entity.User;
+import com.example.order_service.service.CatalogChangeSequence;
+import com.example.order_service.util.ProductCursor;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공개 카탈로그 조회가 판매자 이름까지 한 번의 SQL로 끝나는지(N+1이 없는지) Hibernate 통계로 확인한다.
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ProductCatalogQueryCountTest {
+
+	private static final int PRODUCTS_PER_SELLER = 10;
+
+	@MockitoBean
+	private CatalogChangeSequence changeSequence;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	private final List<Long> productIds = new ArrayList<>();
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		// 판매자가 여러 명이어야 지연 로딩 시 상품마다 추가 쿼리가 드러남
+		for (int s = 1; s <= 3; s++) {
+			User seller = entityManager.persist(User.builder()
+					.username("seller" + s)
+					.name("판매자" + s)
+					.nickname("seller-nick" + s)
+					.role(User.Role.SELLER)
+					.authProvider(User.AuthProvider.LOCAL)
+					.build());
+			for (int i = 1; i <= PRODUCTS_PER_SELLER; i++) {
+				Product product = entityManager.persist(Product.builder()
+						.name("상품 " + s + "-" + i)
+						.price(BigDecimal.valueOf(1000L * i))
+						.stockQuantity(i)
+						.category(i % 2 == 0 ? "도서" : "의류")
+						.seller(seller)
+						.build());
+				productIds.add(product.getId());
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void firstPageIsOneStatement() {
+		List<ProductDTO> page = productRepository.findCatalogSlice(
+				null, ProductCursor.SortKey.CREATED_AT, true, null, 0, 13);
+
+		assertThat(sellerNames(page)).hasSize(13);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void offsetAndCategoryPageIsOneStatement() {
+		List<ProductDTO> page = productRepository.findCatalogSlice(
+				"도서", ProductCursor.SortKey.PRICE, false, null, 5, 13);
+
+		assertThat(sellerNames(page)).isNotEmpty();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void cursorPageIsOneStatement() {
+		ProductDTO last = productRepository.findCatalogSlice(
+				null, ProductCursor.SortKey.PRICE, true, null, 0, 5).get(4);
+		ProductCursor cursor = new ProductCursor(ProductCursor.SortKey.PRICE, true, last.getPrice(), last.getId());
+		statistics.clear();
+
+		List<ProductDTO> page = productRepository.findCatalogSlice(
+				null, ProductCursor.SortKey.PRICE, true, cursor, 0, 13);
+
+		assertThat(sellerNames(page)).hasSize(13);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void singleProductIsOneStatement() {
+		ProductDTO product = productRepository.findDtoById(productIds.get(0)).orElseThrow();
+
+		assertThat(product.getSellerName()).isEqualTo("판매자1");
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void batchLookupIsOneStatement() {
+		List<ProductDTO> products = productRepository.findDtosByIdIn(productIds);
+
+		assertThat(sellerNames(products)).hasSize(productIds.size());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	private static List<String> sellerNames(List<ProductDTO> products) {
+		return products.stream().map(ProductDTO::getSellerName).toList();
+	}
+}
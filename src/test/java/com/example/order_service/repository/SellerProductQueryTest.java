@@ -0,0 +1,187 @@
+package com.example.order_service.repository;
+
+import com.example.order_service.dto.SellerProductDTO;
+import com.example.order_service.dto.SellerProductPage;
+import com.example.order_service.entity.Product;
+import com.example.order_service.entity.User;
+import com.example.order_service.service.CatalogChangeSequence;
+import com.example.order_service.service.SellerDashboardService;
+import com.example.order_service.util.ProductCursor;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 판매자 상품 목록의 키셋 페이지네이션: 모든 필터/정렬 조합에서 커서를 따라 끝까지 읽으면
+ * 빠짐없이 중복 없이 정렬 순서대로 나오는지, 그리고 조합마다 맞는 인덱스가 있는지 확인한다.
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class SellerProductQueryTest {
+
+	private static final int PAGE_SIZE = 4;
+
+	@MockitoBean
+	private CatalogChangeSequence changeSequence;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	private SellerDashboardService sellerDashboardService;
+	private User seller;
+	private final List<Product> sellerProducts = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		seller = persistSeller(1);
+		User otherSeller = persistSeller(2);
+		for (int i = 1; i <= 30; i++) {
+			// 가격/재고가 겹쳐야 같은 정렬 값 안에서 ID로 이어 읽는 경로가 검증됨
+			sellerProducts.add(entityManager.persist(Product.builder()
+					.name("상품 " + i)
+					.price(BigDecimal.valueOf(1000L * (i % 5)))
+					.stockQuantity(i % 7)
+					.category(i % 3 == 0 ? "도서" : "의류")
+					.status(i % 4 == 0 ? Product.ProductStatus.INACTIVE : Product.ProductStatus.ACTIVE)
+					.seller(seller)
+					.build()));
+			entityManager.persist(Product.builder()
+					.name("다른 판매자 상품 " + i)
+					.price(BigDecimal.valueOf(1000L * (i % 5)))
+					.stockQuantity(i % 7)
+					.category("도서")
+					.seller(otherSeller)
+					.build());
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		sellerDashboardService = new SellerDashboardService(
+				mock(OrderRepository.class), productRepository, mock(OrderItemRepository.class));
+	}
+
+	@Test
+	void cursorWalkReturnsEveryMatchingProductOnceInOrder() {
+		for (ProductCursor.SortKey sortKey : ProductCursor.SortKey.values()) {
+			for (boolean descending : new boolean[]{false, true}) {
+				assertWalk(null, null, null, sortKey, descending);
+				assertWalk(Product.ProductStatus.ACTIVE, null, null, sortKey, descending);
+				assertWalk(null, "도서", null, sortKey, descending);
+				assertWalk(Product.ProductStatus.ACTIVE, "의류", null, sortKey, descending);
+				assertWalk(null, null, 2, sortKey, descending);
+			}
+		}
+	}
+
+	@Test
+	void lastPageHasNoCursor() {
+		SellerProductPage page = sellerDashboardService.getSellerProducts(
+				seller, null, null, null, ProductCursor.SortKey.PRICE, false, null, 100);
+
+		assertThat(page.getContent()).hasSize(sellerProducts.size());
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void everyFilterAndSortCombinationHasMatchingIndex() {
+		List<List<String>> indexes = Arrays.stream(Product.class.getAnnotation(Table.class).indexes())
+				.map(Index::columnList)
+				.map(columns -> Arrays.stream(columns.split(",")).map(String::trim).toList())
+				.toList();
+
+		for (ProductCursor.SortKey sortKey : ProductCursor.SortKey.values()) {
+			String sortColumn = sortKey.property().replaceAll("([A-Z])", "_$1").toLowerCase(Locale.ROOT);
+			for (boolean statusFilter : new boolean[]{false, true}) {
+				for (boolean categoryFilter : new boolean[]{false, true}) {
+					Set<String> equalityColumns = new HashSet<>();
+					if (statusFilter) {
+						equalityColumns.add("status");
+					}
+					if (categoryFilter) {
+						equalityColumns.add("category");
+					}
+					// seller_id와 필터 컬럼 일부로 범위를 좁힌 뒤 (정렬 컬럼, id) 순서로 읽을 수 있어야 함
+					assertThat(indexes)
+							.as("sort=%s status=%s category=%s", sortKey, statusFilter, categoryFilter)
+							.anySatisfy(columns -> {
+								assertThat(columns.get(0)).isEqualTo("seller_id");
+								assertThat(columns.subList(columns.size() - 2, columns.size()))
+										.containsExactly(sortColumn, "id");
+								assertThat(equalityColumns).containsAll(columns.subList(1, columns.size() - 2));
+							});
+				}
+			}
+		}
+	}
+
+	private void assertWalk(Product.ProductStatus status, String category, Integer maxStock,
+							ProductCursor.SortKey sortKey, boolean descending) {
+		List<Long> walked = new ArrayList<>();
+		ProductCursor after = null;
+		do {
+			SellerProductPage page = sellerDashboardService.getSellerProducts(
+					seller, status, category, maxStock, sortKey, descending, after, PAGE_SIZE);
+			assertThat(page.getContent()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+			page.getContent().stream().map(SellerProductDTO::getId).forEach(walked::add);
+			// 컨트롤러와 같이 인코딩된 커서를 다시 해석해 다음 페이지를 요청
+			after = page.getNextCursor() != null
+					? ProductCursor.decode(page.getNextCursor(), sortKey, descending)
+					: null;
+		} while (after != null);
+
+		Comparator<Product> order = Comparator.comparing((Product product) -> sortValue(product, sortKey))
+				.thenComparing(Product::getId);
+		List<Long> expected = sellerProducts.stream()
+				.filter(product -> status == null || product.getStatus() == status)
+				.filter(product -> category == null || category.equals(product.getCategory()))
+				.filter(product -> maxStock == null || product.getStockQuantity() <= maxStock)
+				.sorted(descending ? order.reversed() : order)
+				.map(Product::getId)
+				.toList();
+
+		assertThat(walked)
+				.as("status=%s category=%s maxStock=%s sort=%s desc=%s", status, category, maxStock, sortKey, descending)
+				.containsExactlyElementsOf(expected);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Comparable sortValue(Product product, ProductCursor.SortKey sortKey) {
+		return switch (sortKey) {
+			case CREATED_AT -> product.getCreatedAt();
+			case PRICE -> product.getPrice();
+			case STOCK_QUANTITY -> product.getStockQuantity();
+		};
+	}
+
+	private User persistSeller(int n) {
+		return entityManager.persist(User.builder()
+				.username("seller" + n)
+				.name("판매자" + n)
+				.nickname("seller-nick" + n)
+				.role(User.Role.SELLER)
+				.authProvider(User.AuthProvider.LOCAL)
+				.build());
+	}
+}
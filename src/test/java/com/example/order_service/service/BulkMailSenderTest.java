@@ -0,0 +1,66 @@
+package com.example.order_service.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class BulkMailSenderTest {
+
+	private JavaMailSender mailSender;
+	private BulkMailSender bulkMailSender;
+
+	@BeforeEach
+	void setUp() {
+		mailSender = mock(JavaMailSender.class);
+		bulkMailSender = new BulkMailSender(mailSender, 2);
+		ReflectionTestUtils.setField(bulkMailSender, "chunkSize", 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		bulkMailSender.destroy();
+	}
+
+	@Test
+	void reportsRecipientsWhoseSendFailed() {
+		doThrow(new MailSendException("rejected")).when(mailSender)
+				.send(argThat((SimpleMailMessage mail) -> "b@example.com".equals(mail.getTo()[0])));
+
+		BulkMailSender.BulkResult result = bulkMailSender.sendAll(messages("a@example.com", "b@example.com", "c@example.com"));
+
+		assertThat(result.sent()).isEqualTo(2);
+		assertThat(result.failedRecipients()).containsExactly("b@example.com");
+	}
+
+	@Test
+	void countsEveryRecipientOfAnAbortedChunkAsFailed() {
+		// 메시지별 예외 처리를 벗어나는 오류로 chunk 작업 자체가 실패하는 경우
+		doThrow(new Error("worker died")).when(mailSender)
+				.send(argThat((SimpleMailMessage mail) -> mail.getTo()[0].endsWith("@broken.example")));
+
+		BulkMailSender.BulkResult result = bulkMailSender.sendAll(messages(
+				"a@broken.example", "b@broken.example", "c@broken.example", "ok@example.com"));
+
+		assertThat(result.failedRecipients())
+				.containsExactlyInAnyOrder("a@broken.example", "b@broken.example", "c@broken.example");
+		assertThat(result.sent()).isEqualTo(1);
+	}
+
+	private static List<BulkMailSender.OutgoingMessage> messages(String... recipients) {
+		return Arrays.stream(recipients)
+				.map(to -> new BulkMailSender.OutgoingMessage(to, "알림", "본문"))
+				.toList();
+	}
+}
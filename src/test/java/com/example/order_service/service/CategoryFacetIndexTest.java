@@ -0,0 +1,176 @@
+package com.example.order_service.service;
+
+import com.example.order_service.dto.CategoryFacet;
+import com.example.order_service.dto.ProductFacetView;
+import com.example.order_service.entity.Product.ProductStatus;
+import com.example.order_service.event.ProductChangedEvent;
+import com.example.order_service.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CategoryFacetIndexTest {
+
+	private record View(Long getId, String getCategory, BigDecimal getPrice, ProductStatus getStatus)
+			implements ProductFacetView {
+	}
+
+	// DB 대신 쓰는 상품 테이블. 테스트 중에 값을 바꿔 커밋된 변경을 흉내냄
+	private final Map<Long, ProductFacetView> products = new ConcurrentHashMap<>();
+
+	private ProductRepository productRepository;
+	private CategoryFacetIndex index;
+
+	@BeforeEach
+	void setUp() {
+		put(1L, "키보드", "39000", ProductStatus.ACTIVE);
+		put(2L, "키보드", "129000", ProductStatus.ACTIVE);
+		put(3L, "키보드", "19000", ProductStatus.ACTIVE);
+		put(4L, "마우스", "25000", ProductStatus.ACTIVE);
+		put(5L, "마우스", "25000", ProductStatus.ACTIVE);
+		put(6L, "모니터", "300000", ProductStatus.INACTIVE);
+
+		productRepository = mock(ProductRepository.class);
+		when(productRepository.findFacetSourcesAfter(anyLong(), any(Pageable.class)))
+				.thenAnswer(invocation -> page(invocation.getArgument(0), invocation.getArgument(1)));
+		when(productRepository.findFacetSourcesByIdIn(anyCollection()))
+				.thenAnswer(invocation -> byIds(invocation.getArgument(0)));
+
+		index = new CategoryFacetIndex(productRepository);
+	}
+
+	@Test
+	void countsActiveProductsAndPriceRangePerCategory() {
+		index.build();
+
+		assertThat(index.isReady()).isTrue();
+		assertThat(index.getFacets()).containsExactly(
+				facet("마우스", 2, "25000", "25000"),
+				facet("모니터", 0, null, null),
+				facet("키보드", 3, "19000", "129000"));
+		assertThat(index.getCategoryNames()).containsExactly("마우스", "모니터", "키보드");
+	}
+
+	@Test
+	void statusFlipUpdatesCountAndPriceRange() {
+		index.build();
+
+		// 최고가 상품이 판매 중지되면 다음 가격이 최고가가 되고, 다시 판매하면 복구됨
+		change(2L, "키보드", "129000", ProductStatus.OUT_OF_STOCK);
+		assertThat(facetOf("키보드")).isEqualTo(facet("키보드", 2, "19000", "39000"));
+
+		change(6L, "모니터", "300000", ProductStatus.ACTIVE);
+		assertThat(facetOf("모니터")).isEqualTo(facet("모니터", 1, "300000", "300000"));
+
+		change(2L, "키보드", "129000", ProductStatus.ACTIVE);
+		assertThat(facetOf("키보드")).isEqualTo(facet("키보드", 3, "19000", "129000"));
+	}
+
+	@Test
+	void categoryMoveAndPriceChangeMoveTheProductBetweenFacets() {
+		index.build();
+
+		change(3L, "마우스", "9000", ProductStatus.ACTIVE);
+
+		assertThat(facetOf("키보드")).isEqualTo(facet("키보드", 2, "39000", "129000"));
+		assertThat(facetOf("마우스")).isEqualTo(facet("마우스", 3, "9000", "25000"));
+
+		// 마지막 상품이 빠진 카테고리는 목록에서 사라짐
+		change(6L, "마우스", "300000", ProductStatus.INACTIVE);
+		assertThat(index.getCategoryNames()).containsExactly("마우스", "키보드");
+		assertThat(facetOf("마우스")).isEqualTo(facet("마우스", 3, "9000", "25000"));
+	}
+
+	@Test
+	void deleteKeepsPriceSharedByRemainingProducts() {
+		index.build();
+
+		// 같은 가격의 상품이 둘이므로 하나를 지워도 최저/최고가는 그대로
+		delete(4L);
+		assertThat(facetOf("마우스")).isEqualTo(facet("마우스", 1, "25000", "25000"));
+
+		delete(5L);
+		assertThat(index.getCategoryNames()).containsExactly("모니터", "키보드");
+
+		delete(3L);
+		assertThat(facetOf("키보드")).isEqualTo(facet("키보드", 2, "39000", "129000"));
+	}
+
+	@Test
+	void changeCommittedDuringBuildIsNotOverwrittenByStaleRow() throws Exception {
+		// 첫 페이지를 읽은 직후 1번 상품이 판매 중지되어 커밋됨: 집계는 이전 상태를 먼저 반영하게 됨
+		AtomicBoolean changed = new AtomicBoolean();
+		when(productRepository.findFacetSourcesAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+			List<ProductFacetView> page = page(invocation.getArgument(0), invocation.getArgument(1));
+			if (changed.compareAndSet(false, true)) {
+				change(1L, "키보드", "39000", ProductStatus.INACTIVE);
+			}
+			return page;
+		});
+		index.startBuild();
+		awaitReady();
+
+		assertThat(facetOf("키보드")).isEqualTo(facet("키보드", 2, "19000", "129000"));
+	}
+
+	private void awaitReady() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (!index.isReady() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(index.isReady()).isTrue();
+	}
+
+	private void change(Long id, String category, String price, ProductStatus status) {
+		put(id, category, price, status);
+		index.onProductChanged(new ProductChangedEvent(id, ProductChangedEvent.ChangeType.UPDATED));
+	}
+
+	private void delete(Long id) {
+		products.remove(id);
+		index.onProductChanged(new ProductChangedEvent(id, ProductChangedEvent.ChangeType.DELETED));
+	}
+
+	private void put(Long id, String category, String price, ProductStatus status) {
+		products.put(id, new View(id, category, new BigDecimal(price), status));
+	}
+
+	private List<ProductFacetView> page(Long lastId, Pageable pageable) {
+		return new TreeMap<>(products).tailMap(lastId, false).values().stream()
+				.limit(pageable.getPageSize())
+				.toList();
+	}
+
+	private List<ProductFacetView> byIds(Collection<Long> ids) {
+		return ids.stream().map(products::get).filter(Objects::nonNull).toList();
+	}
+
+	private CategoryFacet facetOf(String category) {
+		return index.getFacets().stream()
+				.filter(facet -> facet.getCategory().equals(category))
+				.findFirst()
+				.orElseThrow();
+	}
+
+	private static CategoryFacet facet(String category, long count, String minPrice, String maxPrice) {
+		return new CategoryFacet(category, count,
+				minPrice != null ? new BigDecimal(minPrice) : null,
+				maxPrice != null ? new BigDecimal(maxPrice) : null);
+	}
+}
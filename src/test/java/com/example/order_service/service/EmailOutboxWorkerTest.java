@@ -0,0 +1,136 @@
+package com.example.order_service.service;
+
+import com.example.order_service.entity.EmailOutbox;
+import com.example.order_service.repository.EmailOutboxRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailOutboxWorkerTest {
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	private EmailOutboxRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(EmailOutboxRepository.class);
+	}
+
+	@Test
+	void deliversThroughSmtpAndClearsBody() throws Exception {
+		EmailOutbox outbox = outbox(1);
+		when(repository.claim(eq(1L), eq(EmailOutbox.OutboxStatus.PENDING), any(), any())).thenReturn(1);
+		when(repository.findById(1L)).thenReturn(Optional.of(outbox));
+
+		JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+		mailSender.setHost("localhost");
+		mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+		worker(mailSender).deliver(1L);
+
+		MimeMessage[] received = greenMail.getReceivedMessages();
+		assertThat(received).hasSize(1);
+		assertThat(received[0].getSubject()).isEqualTo("인증 코드");
+		assertThat(GreenMailUtil.getBody(received[0])).contains("123456");
+
+		EmailOutbox saved = savedOutbox();
+		assertThat(saved.getStatus()).isEqualTo(EmailOutbox.OutboxStatus.SENT);
+		assertThat(saved.getSentAt()).isNotNull();
+		assertThat(saved.getBody()).isNull();
+	}
+
+	@Test
+	void retriesWithBodyKeptBeforeMaxAttempts() {
+		EmailOutbox outbox = outbox(1);
+		when(repository.claim(eq(1L), eq(EmailOutbox.OutboxStatus.PENDING), any(), any())).thenReturn(1);
+		when(repository.findById(1L)).thenReturn(Optional.of(outbox));
+
+		worker(failingSender()).deliver(1L);
+
+		EmailOutbox saved = savedOutbox();
+		assertThat(saved.getStatus()).isEqualTo(EmailOutbox.OutboxStatus.PENDING);
+		assertThat(saved.getBody()).isNotNull();
+		assertThat(saved.getNextAttemptAt()).isAfter(LocalDateTime.now());
+	}
+
+	@Test
+	void clearsBodyWhenMovedToDead() {
+		EmailOutbox outbox = outbox(6);
+		when(repository.claim(eq(1L), eq(EmailOutbox.OutboxStatus.PENDING), any(), any())).thenReturn(1);
+		when(repository.findById(1L)).thenReturn(Optional.of(outbox));
+
+		worker(failingSender()).deliver(1L);
+
+		EmailOutbox saved = savedOutbox();
+		assertThat(saved.getStatus()).isEqualTo(EmailOutbox.OutboxStatus.DEAD);
+		assertThat(saved.getBody()).isNull();
+		assertThat(saved.getLastError()).contains("connection refused");
+	}
+
+	@Test
+	void skipsMessageClaimedByAnotherWorker() {
+		when(repository.claim(eq(1L), eq(EmailOutbox.OutboxStatus.PENDING), any(), any())).thenReturn(0);
+
+		worker(failingSender()).deliver(1L);
+
+		verify(repository, never()).findById(any());
+		assertThat(greenMail.getReceivedMessages()).isEmpty();
+	}
+
+	private EmailOutboxWorker worker(JavaMailSender mailSender) {
+		EmailOutboxWorker worker = new EmailOutboxWorker(repository, mailSender, 1);
+		ReflectionTestUtils.setField(worker, "fromEmail", "noreply@orderservice.com");
+		ReflectionTestUtils.setField(worker, "maxAttempts", 6);
+		ReflectionTestUtils.setField(worker, "baseBackoffSeconds", 30L);
+		ReflectionTestUtils.setField(worker, "leaseSeconds", 120L);
+		return worker;
+	}
+
+	private static JavaMailSender failingSender() {
+		JavaMailSender mailSender = mock(JavaMailSender.class);
+		doThrow(new MailSendException("connection refused")).when(mailSender).send(any(SimpleMailMessage.class));
+		return mailSender;
+	}
+
+	// claim()이 이미 attempts를 올린 상태를 흉내 냄
+	private static EmailOutbox outbox(int attempts) {
+		return EmailOutbox.builder()
+				.id(1L)
+				.recipient("user@example.com")
+				.subject("인증 코드")
+				.body("인증 코드: 123456")
+				.attempts(attempts)
+				.nextAttemptAt(LocalDateTime.now())
+				.build();
+	}
+
+	private EmailOutbox savedOutbox() {
+		ArgumentCaptor<EmailOutbox> captor = ArgumentCaptor.forClass(EmailOutbox.class);
+		verify(repository).save(captor.capture());
+		return captor.getValue();
+	}
+}
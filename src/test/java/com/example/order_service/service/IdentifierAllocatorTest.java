@@ -0,0 +1,119 @@
+package com.example.order_service.service;
+
+import com.example.order_service.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdentifierAllocatorTest {
+
+	private UserRepository userRepository;
+	private IdentityIndex identityIndex;
+	private ValueOperations<String, String> valueOperations;
+	private IdentifierAllocator allocator;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		identityIndex = mock(IdentityIndex.class);
+		StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+		valueOperations = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(anyString(), eq("1"), any(Duration.class))).thenReturn(true);
+		allocator = new IdentifierAllocator(userRepository, identityIndex, redisTemplate);
+	}
+
+	@Test
+	void returnsBaseWhenIndexSaysItIsFree() {
+		when(identityIndex.isDefinitelyAvailable(IdentityIndex.Field.USERNAME, "kim")).thenReturn(true);
+
+		assertThat(allocator.allocateUsername("kim")).isEqualTo("kim");
+		verify(userRepository, never()).findUsernamesLike(anyString());
+	}
+
+	@Test
+	void returnsBaseWhenOnlyLongerNamesShareThePrefix() {
+		when(userRepository.findUsernamesLike("kim%")).thenReturn(List.of("kimchi", "kim1"));
+
+		assertThat(allocator.allocateUsername("kim")).isEqualTo("kim");
+	}
+
+	@Test
+	void picksSmallestUnusedNumericSuffix() {
+		when(userRepository.findUsernamesLike("kim%"))
+				.thenReturn(List.of("kim", "kim1", "kim2", "kim10", "kimchi", "kim01"));
+
+		assertThat(allocator.allocateUsername("kim")).isEqualTo("kim3");
+	}
+
+	@Test
+	void comparesTakenValuesCaseInsensitively() {
+		when(userRepository.findNicknamesLike("Kim%")).thenReturn(List.of("KIM", "kim1"));
+
+		assertThat(allocator.allocateNickname("Kim")).isEqualTo("Kim2");
+	}
+
+	@Test
+	void comparesTakenValuesAccentInsensitively() {
+		when(userRepository.findUsernamesLike("jose%")).thenReturn(List.of("José", "JOSÉ1"));
+
+		assertThat(allocator.allocateUsername("jose")).isEqualTo("jose2");
+	}
+
+	@Test
+	void reservesAccentVariantsUnderTheSameKey() {
+		when(identityIndex.isDefinitelyAvailable(any(), anyString())).thenReturn(true);
+
+		allocator.allocateUsername("José");
+		allocator.allocateUsername("Jose");
+
+		verify(valueOperations, times(2)).setIfAbsent(eq("identity:reserve:username:jose"), eq("1"), any(Duration.class));
+	}
+
+	@Test
+	void skipsCandidatesReservedByAnotherNode() {
+		when(userRepository.findUsernamesLike("kim%")).thenReturn(List.of("kim"));
+		when(valueOperations.setIfAbsent(eq("identity:reserve:username:kim1"), eq("1"), any(Duration.class)))
+				.thenReturn(false);
+
+		assertThat(allocator.allocateUsername("kim")).isEqualTo("kim2");
+	}
+
+	@Test
+	void escapesLikeWildcardsInBase() {
+		when(userRepository.findUsernamesLike(anyString())).thenReturn(List.of());
+
+		allocator.allocateUsername("a_b%");
+
+		verify(userRepository).findUsernamesLike("a!_b!%%");
+	}
+
+	@Test
+	void numericSuffixRules() {
+		assertThat(IdentifierAllocator.isNumeric("12")).isTrue();
+		assertThat(IdentifierAllocator.isNumeric("")).isFalse();
+		assertThat(IdentifierAllocator.isNumeric("01")).isFalse();
+		assertThat(IdentifierAllocator.isNumeric("1a")).isFalse();
+		assertThat(IdentifierAllocator.isNumeric("1234567890123456789")).isFalse();
+	}
+
+	@Test
+	void escapeLikeEscapesEscapeCharacterFirst() {
+		assertThat(IdentifierAllocator.escapeLike("!_%")).isEqualTo("!!!_!%");
+	}
+}
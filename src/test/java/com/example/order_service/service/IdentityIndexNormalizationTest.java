@@ -0,0 +1,41 @@
+package com.example.order_service.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdentityIndexNormalizationTest {
+
+	@Test
+	void foldsCaseAndSurroundingWhitespace() {
+		assertThat(IdentityIndex.normalize("  Alice ")).isEqualTo("alice");
+	}
+
+	@Test
+	void foldsAccentsLikeAccentInsensitiveCollation() {
+		assertThat(IdentityIndex.normalize("José")).isEqualTo(IdentityIndex.normalize("jose"));
+		assertThat(IdentityIndex.normalize("RENÉE")).isEqualTo("renee");
+		// 미리 조합된 문자와 결합 문자로 쓴 문자도 같은 값이 됨
+		assertThat(IdentityIndex.normalize("é")).isEqualTo(IdentityIndex.normalize("é"));
+	}
+
+	@Test
+	void foldsFullwidthForms() {
+		assertThat(IdentityIndex.normalize("ＡＢＣ１")).isEqualTo("abc1");
+	}
+
+	@Test
+	void hangulIsComparable() {
+		String nickname = IdentityIndex.normalize("관리자");
+
+		assertThat(IdentityIndex.isComparable(nickname)).isTrue();
+		assertThat(nickname).isEqualTo(IdentityIndex.normalize("관리자"));
+	}
+
+	@Test
+	void charactersWithCollationExpansionsFallBackToDatabase() {
+		assertThat(IdentityIndex.isComparable(IdentityIndex.normalize("straße"))).isFalse();
+		assertThat(IdentityIndex.isComparable(IdentityIndex.normalize("日本"))).isFalse();
+		assertThat(IdentityIndex.isComparable(IdentityIndex.normalize("plain_user-1"))).isTrue();
+	}
+}
@@ -0,0 +1,207 @@
+package com.example.order_service.service;
+
+import com.example.order_service.dto.OrderStatusChangedEvent;
+import com.example.order_service.entity.Order;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+@EmbeddedKafka(partitions = 1, topics = "order-status-changed")
+@TestPropertySource(properties = {
+		"app.notification.order-status.coalesce-msec=0",
+		"app.notification.order-status.customer-interval-msec=60000",
+		"app.notification.order-status.batch-size=500"
+})
+class OrderStatusNotificationListenerTest {
+
+	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+	@Configuration
+	@EnableKafka
+	static class Config {
+
+		@Bean
+		ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(EmbeddedKafkaBroker broker) {
+			ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+			factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(Map.of(
+					ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+					ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+					ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+					ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class)));
+			return factory;
+		}
+
+		@Bean
+		KafkaTemplate<String, String> kafkaTemplate(EmbeddedKafkaBroker broker) {
+			return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(Map.of(
+					ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+					ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+					ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class)));
+		}
+
+		@Bean
+		ObjectMapper objectMapper() {
+			return new ObjectMapper().findAndRegisterModules();
+		}
+
+		@Bean
+		EmailService emailService() {
+			return mock(EmailService.class);
+		}
+
+		@Bean
+		@SuppressWarnings("unchecked")
+		ValueOperations<String, String> valueOperations() {
+			return mock(ValueOperations.class);
+		}
+
+		@Bean
+		StringRedisTemplate redisTemplate(ValueOperations<String, String> valueOperations) {
+			StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+			when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+			return redisTemplate;
+		}
+
+		@Bean
+		OrderStatusNotificationListener orderStatusNotificationListener(EmailService emailService,
+																		StringRedisTemplate redisTemplate,
+																		ObjectMapper objectMapper) {
+			return new OrderStatusNotificationListener(emailService, redisTemplate, objectMapper);
+		}
+	}
+
+	@Autowired
+	private OrderStatusNotificationListener listener;
+
+	@Autowired
+	private KafkaTemplate<String, String> kafkaTemplate;
+
+	@Autowired
+	private EmailService emailService;
+
+	@Autowired
+	private ValueOperations<String, String> valueOperations;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private final List<OrderStatusChangedEvent> sent = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		reset(emailService, valueOperations);
+		sent.clear();
+		when(emailService.sendOrderStatusNotifications(anyList())).thenAnswer(invocation -> {
+			List<OrderStatusChangedEvent> batch = invocation.getArgument(0);
+			sent.addAll(batch);
+			return new BulkMailSender.BulkResult(batch.size(), List.of());
+		});
+		when(valueOperations.setIfAbsent(anyString(), eq("1"), any(Duration.class))).thenReturn(true);
+	}
+
+	@Test
+	void deliversEventConsumedFromKafka() throws Exception {
+		kafkaTemplate.send("order-status-changed", "1001", json(event(1001L, Order.OrderStatus.SHIPPED, 0))).get();
+
+		long deadline = System.currentTimeMillis() + 30_000;
+		while (sent.isEmpty() && System.currentTimeMillis() < deadline) {
+			listener.flush();
+			Thread.sleep(100);
+		}
+
+		assertThat(sent).hasSize(1);
+		assertThat(sent.get(0).getOrderId()).isEqualTo(1001L);
+		assertThat(sent.get(0).getStatus()).isEqualTo(Order.OrderStatus.SHIPPED);
+	}
+
+	@Test
+	void keepsLatestNotifiableStatusWhenNonNotifiableArrivesLater() throws Exception {
+		listener.onOrderStatusChanged(json(event(2001L, Order.OrderStatus.CONFIRMED, 0)));
+		listener.onOrderStatusChanged(json(event(2001L, Order.OrderStatus.PROCESSING, 1)));
+
+		listener.flush();
+
+		assertThat(sent).hasSize(1);
+		assertThat(sent.get(0).getStatus()).isEqualTo(Order.OrderStatus.CONFIRMED);
+	}
+
+	@Test
+	void coalescesToNewestStatusAndIgnoresOutOfOrderEvents() throws Exception {
+		listener.onOrderStatusChanged(json(event(3001L, Order.OrderStatus.SHIPPED, 2)));
+		listener.onOrderStatusChanged(json(event(3001L, Order.OrderStatus.CONFIRMED, 1)));
+		listener.onOrderStatusChanged(json(event(3001L, Order.OrderStatus.DELIVERED, 3)));
+
+		listener.flush();
+
+		assertThat(sent).hasSize(1);
+		assertThat(sent.get(0).getStatus()).isEqualTo(Order.OrderStatus.DELIVERED);
+	}
+
+	@Test
+	void throttledNotificationIsKeptAndMergedWithLaterChange() throws Exception {
+		when(valueOperations.setIfAbsent(anyString(), eq("1"), any(Duration.class))).thenReturn(false, true);
+		listener.onOrderStatusChanged(json(event(4001L, Order.OrderStatus.SHIPPED, 0)));
+
+		listener.flush();
+		assertThat(sent).isEmpty();
+
+		listener.onOrderStatusChanged(json(event(4001L, Order.OrderStatus.DELIVERED, 1)));
+		listener.flush();
+
+		assertThat(sent).hasSize(1);
+		assertThat(sent.get(0).getStatus()).isEqualTo(Order.OrderStatus.DELIVERED);
+
+		listener.flush();
+		assertThat(sent).hasSize(1);
+	}
+
+	private OrderStatusChangedEvent event(Long orderId, Order.OrderStatus status, int secondsAfterBase) {
+		return OrderStatusChangedEvent.builder()
+				.orderId(orderId)
+				.orderNumber("ORD-" + orderId)
+				.customerId(orderId * 10)
+				.customerEmail("customer" + orderId + "@example.com")
+				.customerName("고객" + orderId)
+				.status(status)
+				.changedAt(BASE_TIME.plusSeconds(secondsAfterBase))
+				.build();
+	}
+
+	private String json(OrderStatusChangedEvent event) throws Exception {
+		return objectMapper.writeValueAsString(event);
+	}
+}
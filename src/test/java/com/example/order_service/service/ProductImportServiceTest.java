@@ -0,0 +1,93 @@
+package com.example.order_service.service;
+
+import com.example.order_service.dto.ProductImportResult;
+import com.example.order_service.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductImportServiceTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private ProductImportService importService;
+	private final User seller = User.builder().id(7L).role(User.Role.SELLER).build();
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		NamedParameterJdbcTemplate namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+		when(namedParameterJdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+				.thenReturn(List.of());
+		importService = new ProductImportService(jdbcTemplate, namedParameterJdbcTemplate,
+				new TransactionTemplate(mock(PlatformTransactionManager.class)), mock(ApplicationEventPublisher.class),
+				new ObjectMapper(), mock(CatalogChangeSequence.class));
+		ReflectionTestUtils.setField(importService, "batchSize", 2);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void writeFailureReturnsCommittedBatchesAndStopsReading() {
+		// 두 번째 배치(3, 4번 행) 저장이 실패
+		when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+				.thenReturn(new int[0][])
+				.thenThrow(new DataIntegrityViolationException("Data too long for column 'category'"));
+
+		ProductImportResult result = importService.importProducts(seller, csv(
+				"sku,name,price",
+				"A-1,무선 키보드,39000",
+				"A-2,무선 마우스,25000",
+				"A-3,기계식 키보드,129000",
+				"A-4,모니터 받침대,19000",
+				"A-5,USB 허브,15000"), ProductImportService.Format.CSV);
+
+		assertThat(result.getImported()).isEqualTo(2);
+		assertThat(result.getProcessed()).isEqualTo(4);
+		assertThat(result.getFatalError()).contains("4번째 행", "2건");
+		verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void importsEveryBatchWhenWritesSucceed() {
+		when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+				.thenReturn(new int[0][]);
+
+		ProductImportResult result = importService.importProducts(seller, csv(
+				"sku,name,price",
+				"A-1,무선 키보드,39000",
+				"A-2,무선 마우스,-1",
+				"A-3,기계식 키보드,129000"), ProductImportService.Format.CSV);
+
+		assertThat(result.getImported()).isEqualTo(2);
+		assertThat(result.getFailed()).isEqualTo(1);
+		assertThat(result.getFatalError()).isNull();
+	}
+
+	private static ByteArrayInputStream csv(String... lines) {
+		return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+	}
+}
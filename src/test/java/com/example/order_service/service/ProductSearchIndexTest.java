@@ -0,0 +1,157 @@
+package com.example.order_service.service;
+
+import com.example.order_service.dto.ProductDTO;
+import com.example.order_service.event.ProductChangedEvent;
+import com.example.order_service.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductSearchIndexTest {
+
+	// DB 대신 쓰는 상품 테이블. 테스트 중에 값을 바꿔 커밋된 변경을 흉내냄
+	private final Map<Long, ProductDTO> products = new ConcurrentHashMap<>();
+
+	private ProductRepository productRepository;
+	private ProductSearchIndex index;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		put(1L, "Logitech 무선 키보드", "39000");
+		put(2L, "기계식 게이밍 키보드", "129000");
+		put(3L, "무선 마우스", "25000");
+		put(4L, "접이식 휴대용 키보드", "19000");
+
+		productRepository = mock(ProductRepository.class);
+		when(productRepository.findDtosAfter(anyLong(), any(Pageable.class)))
+				.thenAnswer(invocation -> page(invocation.getArgument(0), invocation.getArgument(1)));
+		when(productRepository.findDtosByIdIn(anyCollection()))
+				.thenAnswer(invocation -> byIds(invocation.getArgument(0)));
+
+		index = new ProductSearchIndex(productRepository, "");
+		index.open();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		index.destroy();
+	}
+
+	@Test
+	void findsProductsContainingEveryQueryTerm() throws Exception {
+		index.rebuild();
+
+		assertThat(ids(index.search("키보드", ProductSearchIndex.SortOrder.RELEVANCE, 0, 10)))
+				.containsExactlyInAnyOrder(1L, 2L, 4L);
+		assertThat(ids(index.search("무선 키보드", ProductSearchIndex.SortOrder.RELEVANCE, 0, 10)))
+				.containsExactly(1L);
+	}
+
+	@Test
+	void toleratesOneCharacterTypo() throws Exception {
+		index.rebuild();
+
+		assertThat(ids(index.search("logitach", ProductSearchIndex.SortOrder.RELEVANCE, 0, 10)))
+				.containsExactly(1L);
+	}
+
+	@Test
+	void sortsMatchesByPrice() throws Exception {
+		index.rebuild();
+
+		assertThat(ids(index.search("키보드", ProductSearchIndex.SortOrder.PRICE_ASC, 0, 10)))
+				.containsExactly(4L, 1L, 2L);
+		assertThat(ids(index.search("키보드", ProductSearchIndex.SortOrder.PRICE_DESC, 0, 10)))
+				.containsExactly(2L, 1L, 4L);
+		assertThat(ids(index.search("키보드", ProductSearchIndex.SortOrder.PRICE_ASC, 1, 2)))
+				.containsExactly(2L);
+	}
+
+	@Test
+	void changeCommittedDuringRebuildIsNotOverwrittenByStaleRow() throws Exception {
+		// 재구축이 첫 페이지를 읽은 직후 1번 상품 이름이 바뀌어 커밋됨: 재구축은 이전 이름으로 색인하게 됨
+		AtomicBoolean changed = new AtomicBoolean();
+		when(productRepository.findDtosAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+			List<ProductDTO> page = page(invocation.getArgument(0), invocation.getArgument(1));
+			if (changed.compareAndSet(false, true)) {
+				put(1L, "Logitech 무선 마우스", "39000");
+				index.onProductChanged(new ProductChangedEvent(1L, ProductChangedEvent.ChangeType.UPDATED));
+			}
+			return page;
+		});
+		index.startRebuild();
+		awaitReady();
+
+		assertThat(ids(index.search("키보드", ProductSearchIndex.SortOrder.RELEVANCE, 0, 10)))
+				.containsExactlyInAnyOrder(2L, 4L);
+		assertThat(ids(index.search("마우스", ProductSearchIndex.SortOrder.RELEVANCE, 0, 10)))
+				.containsExactlyInAnyOrder(1L, 3L);
+	}
+
+	@Test
+	void appliesChangesAfterRebuild() throws Exception {
+		index.rebuild();
+
+		put(5L, "무선 게이밍 키보드", "89000");
+		index.onProductChanged(new ProductChangedEvent(5L, ProductChangedEvent.ChangeType.CREATED));
+		products.remove(2L);
+		index.onProductChanged(new ProductChangedEvent(2L, ProductChangedEvent.ChangeType.DELETED));
+		index.refresh();
+
+		assertThat(ids(index.search("게이밍 키보드", ProductSearchIndex.SortOrder.RELEVANCE, 0, 10)))
+				.containsExactly(5L);
+	}
+
+	private void awaitReady() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (!index.isReady() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(index.isReady()).isTrue();
+	}
+
+	private void put(Long id, String name, String price) {
+		products.put(id, ProductDTO.builder()
+				.id(id)
+				.name(name)
+				.description("")
+				.price(new BigDecimal(price))
+				.stockQuantity(10)
+				.category("전자기기")
+				.status("ACTIVE")
+				.createdAt(LocalDateTime.of(2026, 1, 1, 12, 0).plusMinutes(id))
+				.build());
+	}
+
+	private List<ProductDTO> page(Long lastId, Pageable pageable) {
+		return new TreeMap<>(products).tailMap(lastId, false).values().stream()
+				.limit(pageable.getPageSize())
+				.toList();
+	}
+
+	private List<ProductDTO> byIds(Collection<Long> ids) {
+		return ids.stream().map(products::get).filter(Objects::nonNull).toList();
+	}
+
+	private static List<Long> ids(List<ProductDTO> results) {
+		return results.stream().map(ProductDTO::getId).toList();
+	}
+}
@@ -0,0 +1,87 @@
+package com.example.order_service.service;
+
+import com.example.order_service.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProfileRefreshBatcherTest {
+
+	private UserRepository userRepository;
+	private SimpleMeterRegistry meterRegistry;
+	private ProfileRefreshBatcher batcher;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		meterRegistry = new SimpleMeterRegistry();
+		when(userRepository.updateOAuth2Profile(anyLong(), anyString(), any(), any())).thenReturn(1);
+		batcher = new ProfileRefreshBatcher(userRepository,
+				new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry);
+	}
+
+	@Test
+	void writesOnlyTheLatestQueuedValue() {
+		batcher.enqueue(1L, "B", "b.png");
+		batcher.enqueue(1L, "C", "c.png");
+
+		batcher.flush();
+
+		verify(userRepository, times(1)).updateOAuth2Profile(anyLong(), anyString(), any(), any());
+		verify(userRepository).updateOAuth2Profile(eq(1L), eq("C"), eq("c.png"), any());
+	}
+
+	@Test
+	void unchangedLoginOverwritesQueuedOlderValue() {
+		// 이름 B로 로그인해 대기열에 들어간 뒤, DB 값과 같은 원래 이름 A로 다시 로그인
+		batcher.enqueue(1L, "B", "b.png");
+		batcher.recordUnchanged(1L, "A", "a.png");
+
+		batcher.flush();
+
+		verify(userRepository).updateOAuth2Profile(eq(1L), eq("A"), eq("a.png"), any());
+		verify(userRepository, never()).updateOAuth2Profile(eq(1L), eq("B"), any(), any());
+	}
+
+	@Test
+	void unchangedLoginDuringFlushIsWrittenAfterIt() {
+		batcher.enqueue(1L, "B", "b.png");
+		// B를 쓰는 중에 A로 로그인: DB는 아직 A이므로 변경 없음으로 판단됨
+		when(userRepository.updateOAuth2Profile(eq(1L), eq("B"), any(), any())).thenAnswer(invocation -> {
+			batcher.recordUnchanged(1L, "A", "a.png");
+			return 1;
+		});
+
+		batcher.flush();
+		batcher.flush();
+
+		InOrder order = inOrder(userRepository);
+		order.verify(userRepository).updateOAuth2Profile(eq(1L), eq("B"), any(), any());
+		order.verify(userRepository).updateOAuth2Profile(eq(1L), eq("A"), any(), any());
+	}
+
+	@Test
+	void unchangedLoginWithoutPendingWriteSkipsTheWrite() {
+		batcher.recordUnchanged(1L, "A", "a.png");
+
+		batcher.flush();
+
+		verify(userRepository, never()).updateOAuth2Profile(anyLong(), anyString(), any(), any());
+		assertThat(meterRegistry.counter("oauth2.profile.writes", "result", "skipped").count()).isEqualTo(1.0);
+	}
+}
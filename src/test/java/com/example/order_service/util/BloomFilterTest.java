@@ -0,0 +1,77 @@
+package com.example.order_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+	@Test
+	void addedValuesAreAlwaysReported() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("user" + i);
+		}
+
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(filter.mightContain("user" + i)).isTrue();
+		}
+	}
+
+	@Test
+	void emptyFilterContainsNothing() {
+		BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+		assertThat(filter.mightContain("admin")).isFalse();
+		assertThat(filter.mightContain("")).isFalse();
+	}
+
+	@Test
+	void falsePositiveRateStaysNearConfiguredRate() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("member-" + i);
+		}
+
+		int falsePositives = 0;
+		int probes = 100_000;
+		for (int i = 0; i < probes; i++) {
+			if (filter.mightContain("visitor-" + i)) {
+				falsePositives++;
+			}
+		}
+		// 설정값 1%에 여유를 둔 상한
+		assertThat((double) falsePositives / probes).isLessThan(0.02);
+	}
+
+	@Test
+	void sizesBitArrayFromExpectedInsertions() {
+		BloomFilter small = new BloomFilter(1_000, 0.01);
+		BloomFilter large = new BloomFilter(100_000, 0.01);
+
+		assertThat(small.bitSize() % 64).isZero();
+		assertThat(large.bitSize()).isGreaterThan(small.bitSize() * 50);
+	}
+
+	@Test
+	void concurrentPutsAreNotLost() throws InterruptedException {
+		BloomFilter filter = new BloomFilter(40_000, 0.01);
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			int offset = t * 10_000;
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < 10_000; i++) {
+					filter.put("value" + (offset + i));
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		for (int i = 0; i < 40_000; i++) {
+			assertThat(filter.mightContain("value" + i)).isTrue();
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.example.order_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+	@Test
+	void parsesQuotedFieldsWithCommasQuotesAndNewlines() throws IOException {
+		CsvReader reader = new CsvReader(new StringReader(
+				"sku,name,description\n" +
+				"A-1,\"노트북, 15인치\",\"\"\"최신\"\" 모델\"\n" +
+				"A-2,키보드,\"첫 줄\n둘째 줄\"\n"));
+
+		assertThat(reader.next()).containsExactly("sku", "name", "description");
+		assertThat(reader.next()).containsExactly("A-1", "노트북, 15인치", "\"최신\" 모델");
+		assertThat(reader.next()).containsExactly("A-2", "키보드", "첫 줄\n둘째 줄");
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	void keepsEmptyFieldsAndLastRecordWithoutNewline() throws IOException {
+		CsvReader reader = new CsvReader(new StringReader("a,,c\n,\nlast"));
+
+		assertThat(reader.next()).containsExactly("a", "", "c");
+		assertThat(reader.next()).containsExactly("", "");
+		assertThat(reader.next()).containsExactly("last");
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	void countsLinesForLfCrLfAndCrLineEndings() throws IOException {
+		assertThat(recordLines("h\na\nb\n")).containsExactly(1, 2, 3);
+		assertThat(recordLines("h\r\na\r\nb\r\n")).containsExactly(1, 2, 3);
+		assertThat(recordLines("h\ra\rb\r")).containsExactly(1, 2, 3);
+		assertThat(recordLines("h\r\ra\rb")).containsExactly(1, 2, 3, 4);
+	}
+
+	@Test
+	void countsNewlinesInsideQuotedFields() throws IOException {
+		assertThat(recordLines("h\n\"a\nb\",x\nc\n")).containsExactly(1, 2, 4);
+		assertThat(recordLines("h\r\n\"a\r\nb\",x\r\nc\r\n")).containsExactly(1, 2, 4);
+		assertThat(recordLines("h\r\"a\rb\",x\rc\r")).containsExactly(1, 2, 4);
+	}
+
+	@Test
+	void rejectsUnclosedQuoteWithRecordLine() throws IOException {
+		CsvReader reader = new CsvReader(new StringReader("h\r\nA-1,\"열린 따옴표\r\n끝"));
+		reader.next();
+
+		assertThatThrownBy(reader::next)
+				.isInstanceOf(IOException.class)
+				.hasMessageContaining("2번째 줄");
+	}
+
+	@Test
+	void rejectsTooLongField() {
+		CsvReader reader = new CsvReader(new StringReader("x".repeat(10_001)));
+
+		assertThatThrownBy(reader::next)
+				.isInstanceOf(IOException.class)
+				.hasMessageContaining("필드가 너무 깁니다");
+	}
+
+	private static List<Integer> recordLines(String csv) throws IOException {
+		CsvReader reader = new CsvReader(new StringReader(csv));
+		List<Integer> lines = new ArrayList<>();
+		while (reader.next() != null) {
+			lines.add(reader.getRecordLineNumber());
+		}
+		return lines;
+	}
+}
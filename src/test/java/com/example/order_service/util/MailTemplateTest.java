@@ -0,0 +1,60 @@
+package com.example.order_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailTemplateTest {
+
+	@Test
+	void replacesPlaceholders() {
+		MailTemplate template = MailTemplate.compile("{name}님, 주문 {orderId}번이 {status} 상태입니다.");
+
+		assertThat(template.render(Map.of("name", "홍길동", "orderId", "42", "status", "배송중")))
+				.isEqualTo("홍길동님, 주문 42번이 배송중 상태입니다.");
+	}
+
+	@Test
+	void rendersMissingValuesAsEmpty() {
+		MailTemplate template = MailTemplate.compile("안녕하세요 {name}님");
+
+		assertThat(template.render(Map.of())).isEqualTo("안녕하세요 님");
+	}
+
+	@Test
+	void keepsTemplateWithoutPlaceholders() {
+		assertThat(MailTemplate.compile("고정 문구").render(Map.of("name", "x"))).isEqualTo("고정 문구");
+		assertThat(MailTemplate.compile("").render(Map.of())).isEqualTo("");
+	}
+
+	@Test
+	void handlesAdjacentAndRepeatedPlaceholders() {
+		MailTemplate template = MailTemplate.compile("{a}{b}-{a}");
+
+		assertThat(template.render(Map.of("a", "1", "b", "2"))).isEqualTo("12-1");
+	}
+
+	@Test
+	void leavesUnclosedBraceAsLiteral() {
+		MailTemplate template = MailTemplate.compile("{name}님 {미완성");
+
+		assertThat(template.render(Map.of("name", "홍길동"))).isEqualTo("홍길동님 {미완성");
+	}
+
+	@Test
+	void doesNotReinterpretBracesInValues() {
+		MailTemplate template = MailTemplate.compile("{name}");
+
+		assertThat(template.render(Map.of("name", "{status}"))).isEqualTo("{status}");
+	}
+
+	@Test
+	void templateIsReusableAcrossRecipients() {
+		MailTemplate template = MailTemplate.compile("{name}님");
+
+		assertThat(template.render(Map.of("name", "A"))).isEqualTo("A님");
+		assertThat(template.render(Map.of("name", "B"))).isEqualTo("B님");
+	}
+}
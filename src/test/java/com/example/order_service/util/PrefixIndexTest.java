@@ -0,0 +1,156 @@
+package com.example.order_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixIndexTest {
+
+	@Test
+	void returnsMatchesByDescendingWeight() {
+		PrefixIndex index = new PrefixIndex.Builder()
+				.add("맥북 에어", "product", 10)
+				.add("맥북 프로", "product", 30)
+				.add("맥세이프 충전기", "product", 20)
+				.add("아이폰", "product", 100)
+				.build();
+
+		assertThat(texts(index.lookup("맥", 10))).containsExactly("맥북 프로", "맥세이프 충전기", "맥북 에어");
+		assertThat(texts(index.lookup("맥북", 10))).containsExactly("맥북 프로", "맥북 에어");
+	}
+
+	@Test
+	void respectsLimit() {
+		PrefixIndex index = new PrefixIndex.Builder()
+				.add("a1", "product", 1)
+				.add("a2", "product", 2)
+				.add("a3", "product", 3)
+				.build();
+
+		assertThat(texts(index.lookup("a", 2))).containsExactly("a3", "a2");
+		assertThat(index.lookup("a", 0)).isEmpty();
+	}
+
+	@Test
+	void matchesFromWordStartsAndReturnsEachSuggestionOnce() {
+		PrefixIndex index = new PrefixIndex.Builder()
+				.add("맥북 프로", "product", 30)
+				.add("프로 프로젝터", "product", 5)
+				.build();
+
+		assertThat(texts(index.lookup("프로", 10))).containsExactly("맥북 프로", "프로 프로젝터");
+	}
+
+	@Test
+	void normalizesCaseAndWhitespace() {
+		PrefixIndex index = new PrefixIndex.Builder()
+				.add("  Galaxy   Buds ", "product", 1)
+				.build();
+
+		assertThat(index.lookup("GALAXY  b", 10)).containsExactly(new PrefixIndex.Suggestion("Galaxy   Buds", "product"));
+		assertThat(texts(index.lookup("buds", 10))).containsExactly("Galaxy   Buds");
+	}
+
+	@Test
+	void returnsEmptyForBlankPrefixNoMatchOrEmptyIndex() {
+		PrefixIndex index = new PrefixIndex.Builder().add("노트북", "category", 1).add("   ", "product", 9).build();
+
+		assertThat(index.lookup("  ", 10)).isEmpty();
+		assertThat(index.lookup(null, 10)).isEmpty();
+		assertThat(index.lookup("태블릿", 10)).isEmpty();
+		assertThat(PrefixIndex.empty().lookup("노", 10)).isEmpty();
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	@Test
+	void keepsSameTextWithDifferentTypesApart() {
+		PrefixIndex index = new PrefixIndex.Builder()
+				.add("가전", "category", 50)
+				.add("가전", "product", 10)
+				.build();
+
+		assertThat(index.lookup("가", 10)).containsExactly(
+				new PrefixIndex.Suggestion("가전", "category"), new PrefixIndex.Suggestion("가전", "product"));
+	}
+
+	@Test
+	void mergesRepeatedSuggestionsAndSumsTheirWeights() {
+		PrefixIndex.Builder builder = new PrefixIndex.Builder();
+		for (int i = 0; i < 1000; i++) {
+			builder.add("무선 이어폰", "product", 1);
+		}
+		PrefixIndex index = builder
+				.add("무선 마우스", "product", 600)
+				.add("무선 충전기", "product", 2000)
+				.build();
+
+		// 같은 이름의 상품 1000개는 전체 문자열/단어 시작 키마다 한 항목으로 합쳐짐
+		assertThat(index.size()).isEqualTo(6);
+		assertThat(index.lookup("무선", 3)).containsExactly(
+				new PrefixIndex.Suggestion("무선 충전기", "product"),
+				new PrefixIndex.Suggestion("무선 이어폰", "product"),
+				new PrefixIndex.Suggestion("무선 마우스", "product"));
+		assertThat(index.lookup("이어", 10)).containsExactly(new PrefixIndex.Suggestion("무선 이어폰", "product"));
+	}
+
+	@Test
+	void matchesBruteForceOnRandomData() {
+		Random random = new Random(42);
+		String alphabet = "abc ";
+		PrefixIndex.Builder builder = new PrefixIndex.Builder();
+		List<String> texts = new ArrayList<>();
+		List<Long> weights = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			StringBuilder text = new StringBuilder("x");
+			int length = 1 + random.nextInt(8);
+			for (int j = 0; j < length; j++) {
+				text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			text.append(i);
+			// 가중치가 서로 달라야 기대 순서가 하나로 정해짐
+			long weight = i * 7919L % 500;
+			builder.add(text.toString(), "product", weight);
+			texts.add(text.toString());
+			weights.add(weight);
+		}
+		PrefixIndex index = builder.build();
+
+		for (String prefix : List.of("x", "xa", "xab", "a", "b c", "c", "xc1", "zz")) {
+			List<Integer> matching = new ArrayList<>();
+			for (int i = 0; i < texts.size(); i++) {
+				if (matchesAnyWordStart(PrefixIndex.normalize(texts.get(i)), prefix)) {
+					matching.add(i);
+				}
+			}
+			matching.sort(Comparator.comparing((Integer i) -> weights.get(i)).reversed());
+			List<String> expected = matching.stream().limit(10).map(i -> texts.get(i).trim()).toList();
+
+			assertThat(texts(index.lookup(prefix, 10))).containsExactlyElementsOf(expected);
+		}
+	}
+
+	private static boolean matchesAnyWordStart(String normalized, String prefix) {
+		if (normalized.startsWith(prefix)) {
+			return true;
+		}
+		for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+			if (normalized.substring(i + 1).startsWith(prefix) && i + 1 < normalized.length()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static List<String> texts(List<PrefixIndex.Suggestion> suggestions) {
+		Set<String> texts = new LinkedHashSet<>();
+		suggestions.forEach(suggestion -> texts.add(suggestion.text()));
+		return new ArrayList<>(texts);
+	}
+}
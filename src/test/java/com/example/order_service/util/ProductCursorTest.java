@@ -0,0 +1,73 @@
+package com.example.order_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCursorTest {
+
+	@Test
+	void roundTripsEachSortKey() {
+		ProductCursor createdAt = new ProductCursor(ProductCursor.SortKey.CREATED_AT, true,
+				LocalDateTime.of(2026, 3, 1, 9, 30, 15, 123_000_000), 42L);
+		ProductCursor price = new ProductCursor(ProductCursor.SortKey.PRICE, false, new BigDecimal("19900.50"), 7L);
+		ProductCursor stock = new ProductCursor(ProductCursor.SortKey.STOCK_QUANTITY, true, 0, 1L);
+
+		assertThat(ProductCursor.decode(createdAt.encode(), ProductCursor.SortKey.CREATED_AT, true)).isEqualTo(createdAt);
+		assertThat(ProductCursor.decode(price.encode(), ProductCursor.SortKey.PRICE, false)).isEqualTo(price);
+		assertThat(ProductCursor.decode(stock.encode(), ProductCursor.SortKey.STOCK_QUANTITY, true)).isEqualTo(stock);
+	}
+
+	@Test
+	void encodesAsUrlSafeBase64WithoutPadding() {
+		String encoded = new ProductCursor(ProductCursor.SortKey.PRICE, true, new BigDecimal("1000"), 12345L).encode();
+
+		assertThat(encoded).doesNotContain("+", "/", "=");
+	}
+
+	@Test
+	void rejectsCursorFromDifferentSortKeyOrDirection() {
+		String encoded = new ProductCursor(ProductCursor.SortKey.PRICE, true, new BigDecimal("1000"), 1L).encode();
+
+		assertThatThrownBy(() -> ProductCursor.decode(encoded, ProductCursor.SortKey.CREATED_AT, true))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ProductCursor.decode(encoded, ProductCursor.SortKey.PRICE, false))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void rejectsMalformedCursors() {
+		assertThatThrownBy(() -> ProductCursor.decode("not base64!", ProductCursor.SortKey.PRICE, true))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("잘못된 커서입니다.");
+		assertThatThrownBy(() -> ProductCursor.decode(raw("price|desc|abc|1"), ProductCursor.SortKey.PRICE, true))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ProductCursor.decode(raw("createdAt|desc|2026-13-01T00:00|1"),
+				ProductCursor.SortKey.CREATED_AT, true))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("잘못된 커서입니다.");
+		assertThatThrownBy(() -> ProductCursor.decode(raw("price|desc|1000"), ProductCursor.SortKey.PRICE, true))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ProductCursor.decode(raw("price|desc|1000|x"), ProductCursor.SortKey.PRICE, true))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void resolvesSortKeyByProperty() {
+		assertThat(ProductCursor.SortKey.fromProperty("createdAt")).isEqualTo(ProductCursor.SortKey.CREATED_AT);
+		assertThat(ProductCursor.SortKey.fromProperty("stockQuantity")).isEqualTo(ProductCursor.SortKey.STOCK_QUANTITY);
+		assertThatThrownBy(() -> ProductCursor.SortKey.fromProperty("name"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("name");
+	}
+
+	private static String raw(String value) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+}